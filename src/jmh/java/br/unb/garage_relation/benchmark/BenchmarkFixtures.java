@@ -0,0 +1,84 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.model.Car;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkFixtures {
+    private static final String[] BRANDS = {"Fiat", "Ford", "Volkswagen", "Chevrolet", "Honda", "Toyota"};
+    private static final String[] MODELS = {"Uno", "Fiesta", "Gol", "Onix", "Civic", "Corolla"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static KeyPair rsaKeyPair() {
+        try {
+            var generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static KeyPair keyPair(JWSAlgorithm algorithm) {
+        if (JWSAlgorithm.RS256.equals(algorithm)) {
+            return rsaKeyPair();
+        }
+
+        try {
+            if (JWSAlgorithm.ES256.equals(algorithm)) {
+                var generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+
+            return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static JwtEncoder rsaJwtEncoder(KeyPair keyPair) {
+        var jwk = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate())
+                .build();
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwk)));
+    }
+
+    static List<Car> cars(int size) {
+        var cars = new ArrayList<Car>(size);
+
+        for (var i = 1; i <= size; i++) {
+            cars.add(new Car((long) i, MODELS[i % MODELS.length], BRANDS[i % BRANDS.length], 1990 + i % 30, null));
+        }
+
+        return cars;
+    }
+
+    static void bindRequest() {
+        var request = new MockHttpServletRequest("GET", "/api/v1/car");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    static void unbindRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+}
@@ -0,0 +1,96 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.Startup;
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.repository.CarRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting cars one transaction at a time, like repeated {@code POST /api/v1/car} calls, against one
+ * transaction that Hibernate flushes as JDBC batches, like {@code POST /api/v1/car/batch}.
+ * Runs against the datasource in the test application.yaml:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=CarBatchInsertBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarBatchInsertBenchmark {
+    private static final String BENCHMARK_USERNAME = "benchmark";
+
+    @Param({"100", "1000"})
+    private int cars;
+
+    private ConfigurableApplicationContext context;
+    private CarRepository carRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private User owner;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Startup.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        carRepository = context.getBean(CarRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO user (username, password, email, full_name) VALUES (?, '', ?, ?)",
+                BENCHMARK_USERNAME, BENCHMARK_USERNAME + "@garage-relation.local", "Benchmark"
+        );
+        var ownerId = jdbcTemplate.queryForObject("SELECT id FROM user WHERE username = ?", Long.class, BENCHMARK_USERNAME);
+        owner = new User();
+        owner.setId(ownerId);
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteInsertedCars() {
+        jdbcTemplate.update("DELETE FROM car WHERE owner_id = ?", owner.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int singleRowTransactions() {
+        for (var car : newCars()) {
+            transactionTemplate.executeWithoutResult(status -> carRepository.save(car));
+        }
+        return cars;
+    }
+
+    @Benchmark
+    public int batchedTransaction() {
+        var newCars = newCars();
+        transactionTemplate.executeWithoutResult(status -> {
+            carRepository.saveAll(newCars);
+            carRepository.flush();
+        });
+        return cars;
+    }
+
+    private List<Car> newCars() {
+        var newCars = new ArrayList<Car>(cars);
+        for (var car : BenchmarkFixtures.cars(cars)) {
+            newCars.add(new Car(car.getModel(), car.getBrand(), car.getYear(), owner));
+        }
+        return newCars;
+    }
+}
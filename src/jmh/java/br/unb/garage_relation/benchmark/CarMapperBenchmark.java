@@ -0,0 +1,69 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.controller.CarController;
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+/**
+ * {@link CarMapper#toCollectionModel(Iterable)} on 10k cars, against the same collection built with
+ * {@code linkTo(methodOn(CarController.class).findById(id, null))} per item as the mapper used to.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarMapperBenchmark {
+    @Param({"10000"})
+    private int size;
+
+    private CarMapper carMapper;
+    private List<Car> cars;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        carMapper = new CarMapper(new ControllerLinks());
+        cars = BenchmarkFixtures.cars(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void bindRequest() {
+        BenchmarkFixtures.bindRequest();
+    }
+
+    @TearDown(Level.Invocation)
+    public void unbindRequest() {
+        BenchmarkFixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<CarResponseDTO>> controllerLinks() {
+        return carMapper.toCollectionModel(cars);
+    }
+
+    @Benchmark
+    public CollectionModel<EntityModel<CarResponseDTO>> methodOnLinks() {
+        var models = new ArrayList<EntityModel<CarResponseDTO>>(cars.size());
+
+        for (var car : cars) {
+            var model = EntityModel.of(carMapper.toCarResponseDTO(car));
+            model.add(linkTo(methodOn(CarController.class).findById(car.getId(), null)).withSelfRel());
+            models.add(model);
+        }
+
+        return CollectionModel.of(models, linkTo(methodOn(CarController.class).findAll(null, null)).withSelfRel());
+    }
+}
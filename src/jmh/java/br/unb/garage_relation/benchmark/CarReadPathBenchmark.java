@@ -0,0 +1,109 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.Startup;
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a page of cars as managed entities copied into DTOs, as {@code CarService.findAll} used to,
+ * against selecting straight into {@link CarResponseDTO}. Allocation per read is the number to compare:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=CarReadPathBenchmark -Djmh.args='-prof gc'}
+ * and look at {@code gc.alloc.rate.norm}. Runs against the datasource in the test application.yaml.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarReadPathBenchmark {
+    private static final String BENCHMARK_USERNAME = "benchmark";
+    private static final int TABLE_SIZE = 10_000;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private CarRepository carRepository;
+    private CarMapper carMapper;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private JdbcTemplate jdbcTemplate;
+    private long ownerId;
+    private long after;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Startup.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        carRepository = context.getBean(CarRepository.class);
+        carMapper = context.getBean(CarMapper.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        var transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO user (username, password, email, full_name) VALUES (?, '', ?, ?)",
+                BENCHMARK_USERNAME, BENCHMARK_USERNAME + "@garage-relation.local", "Benchmark"
+        );
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM user WHERE username = ?", Long.class, BENCHMARK_USERNAME);
+        var owner = new User();
+        owner.setId(ownerId);
+
+        // saved through the repository so ids come from id_generator
+        var cars = new ArrayList<Car>(TABLE_SIZE);
+        for (var car : BenchmarkFixtures.cars(TABLE_SIZE)) {
+            cars.add(new Car(car.getModel(), car.getBrand(), car.getYear(), owner));
+        }
+        readWrite.executeWithoutResult(status -> carRepository.saveAll(cars));
+
+        after = jdbcTemplate.queryForObject("SELECT MIN(id) - 1 FROM car WHERE owner_id = ?", Long.class, ownerId);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM car WHERE owner_id = ?", ownerId);
+        context.close();
+    }
+
+    @Benchmark
+    public Slice<CarResponseDTO> entityPage() {
+        return readWrite.execute(status -> carRepository
+                .findByIdGreaterThanOrderByIdAsc(after, PageRequest.ofSize(pageSize))
+                .map(carMapper::toCarResponseDTO));
+    }
+
+    @Benchmark
+    public Slice<CarResponseDTO> projectionPage() {
+        return readOnly.execute(status -> carRepository.findResponsesAfter(after, PageRequest.ofSize(pageSize)));
+    }
+
+    @Benchmark
+    public CarResponseDTO entityById() {
+        return readWrite.execute(status -> carRepository.findById(after + 1).map(carMapper::toCarResponseDTO).orElseThrow());
+    }
+
+    @Benchmark
+    public CarResponseDTO projectionById() {
+        return readOnly.execute(status -> carRepository.findResponseById(after + 1).orElseThrow());
+    }
+}
@@ -0,0 +1,97 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.Startup;
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.repository.CarRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of the legacy {@code LIKE '%q%'} scan against the FULLTEXT (ngram) search for growing table sizes.
+ * Runs against the datasource in the test application.yaml:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=CarSearchBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CarSearchBenchmark {
+    private static final String[] BRANDS = {"Fiat", "Ford", "Volkswagen", "Chevrolet", "Honda", "Toyota"};
+    private static final String[] MODELS = {"Uno", "Fiesta", "Gol", "Onix", "Civic", "Corolla"};
+    private static final String RARE_MODEL = "Zagato";
+    private static final String QUERY = "agat";
+    private static final String BENCHMARK_USERNAME = "benchmark";
+    private static final int BATCH_SIZE = 5_000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int tableSize;
+
+    private ConfigurableApplicationContext context;
+    private CarRepository carRepository;
+    private JdbcTemplate jdbcTemplate;
+    private long ownerId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Startup.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        carRepository = context.getBean(CarRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        var transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        jdbcTemplate.update(
+                "INSERT IGNORE INTO user (username, password, email, full_name) VALUES (?, '', ?, ?)",
+                BENCHMARK_USERNAME, BENCHMARK_USERNAME + "@garage-relation.local", "Benchmark"
+        );
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM user WHERE username = ?", Long.class, BENCHMARK_USERNAME);
+        var owner = new User();
+        owner.setId(ownerId);
+
+        // saved through the repository so ids come from id_generator, one transaction per batch
+        for (var start = 0; start < tableSize; start += BATCH_SIZE) {
+            var end = Math.min(start + BATCH_SIZE, tableSize);
+            var cars = new ArrayList<Car>(end - start);
+
+            for (var i = start; i < end; i++) {
+                // roughly one car in a thousand matches the query, so both paths return the same short list
+                var model = i % 1000 == 0 ? RARE_MODEL : MODELS[i % MODELS.length];
+                cars.add(new Car(model, BRANDS[i % BRANDS.length], 1990 + i % 30, owner));
+            }
+
+            transactionTemplate.executeWithoutResult(status -> carRepository.saveAll(cars));
+        }
+
+        jdbcTemplate.execute("ANALYZE TABLE car");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM car WHERE owner_id = ?", ownerId);
+        context.close();
+    }
+
+    @Benchmark
+    public List<Car> likeScan() {
+        return carRepository.findByBrandOrModelContains(QUERY);
+    }
+
+    @Benchmark
+    public Slice<Car> fullTextSearch() {
+        return carRepository.searchByBrandOrModel('"' + QUERY + '"', 0L, PageRequest.ofSize(100));
+    }
+}
@@ -0,0 +1,82 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.security.CachingJwtDecoder;
+import br.unb.garage_relation.security.CookieAndHeaderBearerTokenResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
+
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static br.unb.garage_relation.Constants.AUTHORIZATION_HEADER;
+
+/**
+ * CPU cost of authenticating one /api/** request in the bearer-token filter, with the plain Nimbus decoder
+ * (an RSA signature check per request) and with {@link CachingJwtDecoder} in front of it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+    @Param({"nimbus", "cached"})
+    private String decoder;
+
+    private BearerTokenAuthenticationFilter filter;
+    private String authorizationHeader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var keyPair = BenchmarkFixtures.rsaKeyPair();
+        var publicKey = (RSAPublicKey) keyPair.getPublic();
+        var encoder = BenchmarkFixtures.rsaJwtEncoder(keyPair);
+        var now = Instant.now();
+        var claims = JwtClaimsSet.builder()
+                .issuer("http://localhost")
+                .issuedAt(now)
+                .expiresAt(now.plus(1, ChronoUnit.DAYS))
+                .subject("benchmark")
+                .claim("roles", List.of("ADMIN"))
+                .build();
+        authorizationHeader = "Bearer " + encoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+
+        JwtDecoder jwtDecoder = NimbusJwtDecoder.withPublicKey(publicKey).build();
+
+        if (decoder.equals("cached")) {
+            jwtDecoder = new CachingJwtDecoder(jwtDecoder, 10_000, new SimpleMeterRegistry());
+        }
+
+        filter = new BearerTokenAuthenticationFilter(new ProviderManager(new JwtAuthenticationProvider(jwtDecoder)));
+        filter.setBearerTokenResolver(new CookieAndHeaderBearerTokenResolver());
+    }
+
+    @Benchmark
+    public void authenticate(Blackhole blackhole) throws Exception {
+        var request = new MockHttpServletRequest("GET", "/api/v1/car");
+        request.addHeader(AUTHORIZATION_HEADER, authorizationHeader);
+
+        filter.doFilter(
+                request,
+                new MockHttpServletResponse(),
+                (filteredRequest, response) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication())
+        );
+
+        SecurityContextHolder.clearContext();
+    }
+}
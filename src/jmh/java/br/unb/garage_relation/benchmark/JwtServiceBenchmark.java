@@ -0,0 +1,50 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtServiceBenchmark {
+    private static final List<String> ROLES = List.of("ADMIN", "USER");
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var keyPair = BenchmarkFixtures.rsaKeyPair();
+        jwtService = new JwtService(
+                BenchmarkFixtures.rsaJwtEncoder(keyPair),
+                NimbusJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build()
+        );
+
+        BenchmarkFixtures.bindRequest();
+        token = jwtService.createAccessToken("benchmark", ROLES).getTokenValue();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public Jwt createAccessToken() {
+        return jwtService.createAccessToken("benchmark", ROLES);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return jwtService.decode(token);
+    }
+}
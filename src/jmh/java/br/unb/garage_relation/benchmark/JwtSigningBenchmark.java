@@ -0,0 +1,61 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.security.JwtKeys;
+import br.unb.garage_relation.security.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Issuing and verifying an access token with each supported {@code security.jwt.algorithm}. Verification goes
+ * straight to the signature check, as on a miss of the decoder cache:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=JwtSigningBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtSigningBenchmark {
+    private static final List<String> ROLES = List.of("ADMIN", "USER");
+
+    @Param({"RS256", "ES256", "EdDSA"})
+    private String algorithm;
+
+    private JwtService jwtService;
+    private JwtDecoder decoder;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var jwsAlgorithm = JwtKeys.algorithm(algorithm);
+        var keyPair = BenchmarkFixtures.keyPair(jwsAlgorithm);
+        var signingKey = JwtKeys.jwk(jwsAlgorithm, keyPair.getPublic(), keyPair.getPrivate());
+        decoder = JwtKeys.decoder(List.of(signingKey));
+
+        jwtService = new JwtService(JwtKeys.encoder(signingKey), decoder);
+        jwtService.setAlgorithm(algorithm);
+
+        BenchmarkFixtures.bindRequest();
+        token = jwtService.createAccessToken("benchmark", ROLES).getTokenValue();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public Jwt issue() {
+        return jwtService.createAccessToken("benchmark", ROLES);
+    }
+
+    @Benchmark
+    public Jwt verify() {
+        return decoder.decode(token);
+    }
+}
@@ -0,0 +1,101 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.Startup;
+import br.unb.garage_relation.model.dto.request.LoginDTO;
+import br.unb.garage_relation.model.dto.response.TokenResponseDTO;
+import br.unb.garage_relation.model.projection.UserCredentials;
+import br.unb.garage_relation.repository.UserRepository;
+import br.unb.garage_relation.service.AuthService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Login split into its parts: the user lookup as it used to be (entity, then a lazy load of the permissions),
+ * the single-query credentials projection, the password check alone, and the whole {@link AuthService#login}.
+ * Runs against the datasource in the test application.yaml:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=LoginBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoginBenchmark {
+    private static final String USERNAME = "benchmark-login";
+    private static final String PASSWORD = "password";
+    private static final List<String> PERMISSIONS = List.of("BENCHMARK_ADMIN", "BENCHMARK_USER");
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private PasswordEncoder passwordEncoder;
+    private AuthService authService;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private String passwordHash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Startup.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        userRepository = context.getBean(UserRepository.class);
+        passwordEncoder = context.getBean(PasswordEncoder.class);
+        authService = context.getBean(AuthService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+
+        passwordHash = passwordEncoder.encode(PASSWORD);
+        jdbcTemplate.update(
+                "INSERT INTO user (username, password, email, full_name) VALUES (?, ?, ?, ?)",
+                USERNAME, passwordHash, USERNAME + "@garage-relation.local", "Benchmark Login"
+        );
+        var userId = jdbcTemplate.queryForObject("SELECT id FROM user WHERE username = ?", Long.class, USERNAME);
+
+        for (var permission : PERMISSIONS) {
+            jdbcTemplate.update("INSERT IGNORE INTO permission (name) VALUES (?)", permission);
+            jdbcTemplate.update("INSERT INTO user_permission (user_id, permission_name) VALUES (?, ?)", userId, permission);
+        }
+
+        BenchmarkFixtures.bindRequest();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.unbindRequest();
+        jdbcTemplate.update("DELETE FROM user_permission WHERE user_id = (SELECT id FROM user WHERE username = ?)", USERNAME);
+        jdbcTemplate.update("DELETE FROM user WHERE username = ?", USERNAME);
+        context.close();
+    }
+
+    @Benchmark
+    public List<String> entityLookup() {
+        return transactionTemplate.execute(status -> userRepository.findByUsername(USERNAME).orElseThrow().getRoles());
+    }
+
+    @Benchmark
+    public UserCredentials credentialsLookup() {
+        return userRepository.findCredentialsByUsername(USERNAME).orElseThrow();
+    }
+
+    @Benchmark
+    public boolean passwordCheck() {
+        return passwordEncoder.matches(PASSWORD, passwordHash);
+    }
+
+    @Benchmark
+    public TokenResponseDTO login() {
+        return authService.login(new LoginDTO(USERNAME, PASSWORD), new MockHttpServletResponse());
+    }
+}
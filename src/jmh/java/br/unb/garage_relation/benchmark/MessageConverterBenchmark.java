@@ -0,0 +1,86 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.serialization.converter.CborJackson2HttpMessageConverter;
+import br.unb.garage_relation.serialization.converter.SmileJackson2HttpMessageConverter;
+import br.unb.garage_relation.serialization.converter.YamlJackson2HttpMessageConverter;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.EntityModel;
+import org.springframework.hateoas.mediatype.MessageResolver;
+import org.springframework.hateoas.mediatype.hal.CurieProvider;
+import org.springframework.hateoas.mediatype.hal.Jackson2HalModule;
+import org.springframework.hateoas.server.core.DefaultLinkRelationProvider;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.xml.MappingJackson2XmlHttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static br.unb.garage_relation.Constants.APPLICATION_CBOR;
+import static br.unb.garage_relation.Constants.APPLICATION_JSON;
+import static br.unb.garage_relation.Constants.APPLICATION_SMILE;
+import static br.unb.garage_relation.Constants.APPLICATION_XML;
+import static br.unb.garage_relation.Constants.APPLICATION_YAML;
+
+/**
+ * Serialization of a list response through the converters the application registers for each media type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageConverterBenchmark {
+    @Param({APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE})
+    private String mediaType;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private AbstractJackson2HttpMessageConverter converter;
+    private MediaType contentType;
+    private CollectionModel<EntityModel<CarResponseDTO>> body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contentType = MediaType.parseMediaType(mediaType);
+        converter = switch (mediaType) {
+            case APPLICATION_JSON -> new MappingJackson2HttpMessageConverter(halObjectMapper());
+            case APPLICATION_XML -> new MappingJackson2XmlHttpMessageConverter();
+            case APPLICATION_YAML -> new YamlJackson2HttpMessageConverter();
+            case APPLICATION_CBOR -> new CborJackson2HttpMessageConverter();
+            case APPLICATION_SMILE -> new SmileJackson2HttpMessageConverter();
+            default -> throw new IllegalArgumentException(mediaType);
+        };
+
+        BenchmarkFixtures.bindRequest();
+        body = new CarMapper(new ControllerLinks()).toCollectionModel(BenchmarkFixtures.cars(size));
+        BenchmarkFixtures.unbindRequest();
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        var output = new MockHttpOutputMessage();
+        converter.write(body, null, contentType, output);
+        return output.getBodyAsBytes();
+    }
+
+    private static ObjectMapper halObjectMapper() {
+        var objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new Jackson2HalModule());
+        objectMapper.setHandlerInstantiator(new Jackson2HalModule.HalHandlerInstantiator(
+                new DefaultLinkRelationProvider(),
+                CurieProvider.NONE,
+                MessageResolver.DEFAULTS_ONLY
+        ));
+        return objectMapper;
+    }
+}
@@ -0,0 +1,82 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.security.RateLimitFilter;
+import br.unb.garage_relation.security.RateLimiter;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of an allowed request: the limiter alone and the whole filter, with one hot key or spread over many.
+ * The limits are high enough that nothing is rejected. Add {@code -t 8} to {@code jmh.args} for contention:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=RateLimiterBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final FilterChain NO_OP = (request, response) -> {
+    };
+
+    @Param({"1", "10000"})
+    private int keys;
+
+    private RateLimiter rateLimiter;
+    private RateLimitFilter filter;
+    private String[] keyNames;
+    private String[] addresses;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = limiter();
+        filter = new RateLimitFilter(limiter(), limiter(), new SimpleMeterRegistry());
+
+        keyNames = new String[keys];
+        addresses = new String[keys];
+
+        for (int i = 0; i < keys; i++) {
+            keyNames[i] = "subject:" + i;
+            addresses[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/car");
+        private final MockHttpServletResponse response = new MockHttpServletResponse();
+        private int next;
+
+        int next(int bound) {
+            next = next + 1 == bound ? 0 : next + 1;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public long tryAcquire(Cursor cursor) {
+        return rateLimiter.tryAcquire(keyNames[cursor.next(keys)]);
+    }
+
+    @Benchmark
+    public int filter(Cursor cursor) throws ServletException, IOException {
+        cursor.request.setRemoteAddr(addresses[cursor.next(keys)]);
+        filter.doFilter(cursor.request, cursor.response, NO_OP);
+        return cursor.response.getStatus();
+    }
+
+    private static RateLimiter limiter() {
+        return new RateLimiter(1e9, 1_000_000, 100_000, Duration.ofMinutes(10), Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,49 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.security.TokenDenylist;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The revocation check made on every authenticated request, for tokens that are not revoked, with a small and a
+ * large denylist: {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=TokenDenylistBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenDenylistBenchmark {
+    private static final int CANDIDATES = 1024;
+
+    @Param({"1000", "100000"})
+    private int revoked;
+
+    private TokenDenylist denylist;
+    private String[] candidates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        var expiresAt = Instant.now().plusSeconds(3600);
+        denylist = new TokenDenylist();
+
+        for (int i = 0; i < revoked; i++) {
+            denylist.revoke(UUID.randomUUID().toString(), expiresAt);
+        }
+
+        candidates = new String[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            candidates[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean isRevoked() {
+        return denylist.isRevoked(candidates[next++ & (CANDIDATES - 1)]);
+    }
+}
@@ -0,0 +1,83 @@
+package br.unb.garage_relation.benchmark;
+
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.serialization.converter.CborJackson2HttpMessageConverter;
+import br.unb.garage_relation.serialization.converter.SmileJackson2HttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static br.unb.garage_relation.Constants.APPLICATION_CBOR;
+import static br.unb.garage_relation.Constants.APPLICATION_JSON;
+import static br.unb.garage_relation.Constants.APPLICATION_SMILE;
+
+/**
+ * Encoding and decoding a list of cars as JSON, CBOR and Smile through the converters the application registers.
+ * The encoded payload size for each format is printed once per trial:
+ * {@code ./mvnw -Pbenchmark test-compile exec:exec -Dbenchmark=WireFormatBenchmark}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+    private static final Type CAR_LIST = new ParameterizedTypeReference<List<CarResponseDTO>>() {}.getType();
+
+    @Param({APPLICATION_JSON, APPLICATION_CBOR, APPLICATION_SMILE})
+    private String mediaType;
+
+    @Param({"20", "100"})
+    private int size;
+
+    private AbstractJackson2HttpMessageConverter converter;
+    private MediaType contentType;
+    private List<CarResponseDTO> body;
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        contentType = MediaType.parseMediaType(mediaType);
+        converter = switch (mediaType) {
+            case APPLICATION_JSON -> new MappingJackson2HttpMessageConverter(new ObjectMapper());
+            case APPLICATION_CBOR -> new CborJackson2HttpMessageConverter();
+            case APPLICATION_SMILE -> new SmileJackson2HttpMessageConverter();
+            default -> throw new IllegalArgumentException(mediaType);
+        };
+
+        body = new ArrayList<>(size);
+        long id = 1;
+        for (var car : BenchmarkFixtures.cars(size)) {
+            body.add(new CarResponseDTO(id++, car.getModel(), car.getBrand(), car.getYear()));
+        }
+
+        payload = write();
+        System.out.printf("%n%s, %d cars: %d bytes%n", mediaType, size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] write() throws IOException {
+        var output = new MockHttpOutputMessage();
+        converter.write(body, CAR_LIST, contentType, output);
+        return output.getBodyAsBytes();
+    }
+
+    @Benchmark
+    public Object read() throws IOException {
+        var input = new MockHttpInputMessage(payload);
+        input.getHeaders().setContentType(contentType);
+        return converter.read(CAR_LIST, null, input);
+    }
+}
@@ -6,9 +6,20 @@ public class Constants {
     public static final String APPLICATION_YAML = "application/x-yaml";
     public static final String APPLICATION_XML = MediaType.APPLICATION_XML_VALUE;
     public static final String APPLICATION_JSON = MediaType.APPLICATION_JSON_VALUE;
+    public static final String APPLICATION_CBOR = MediaType.APPLICATION_CBOR_VALUE;
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+    public static final String APPLICATION_NDJSON = MediaType.APPLICATION_NDJSON_VALUE;
+    public static final String TEXT_CSV = "text/csv";
     public static final MediaType MEDIA_TYPE_APPLICATION_YAML = MediaType.valueOf("application/x-yaml");
+    public static final MediaType MEDIA_TYPE_APPLICATION_CBOR = MediaType.valueOf(APPLICATION_CBOR);
+    public static final MediaType MEDIA_TYPE_APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE);
     public static final int TEST_SERVER_PORT = 8888;
     public static final String ACCESS_TOKEN_COOKIE_NAME = "garage_relation_access_token";
     public static final String REFRESH_TOKEN_COOKIE_NAME = "garage_relation_refresh_token";
     public static final String AUTHORIZATION_HEADER = "Authorization";
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 1000;
+    public static final int IMPORT_CHUNK_SIZE = 500;
+    public static final int MAX_IMPORT_ERRORS = 1000;
 }
@@ -1,47 +1,86 @@
 package br.unb.garage_relation.configuration;
 
+import br.unb.garage_relation.security.CachingJwtDecoder;
 import br.unb.garage_relation.security.CookieAndHeaderBearerTokenResolver;
+import br.unb.garage_relation.security.JwtKeys;
+import br.unb.garage_relation.security.RateLimitFilter;
+import br.unb.garage_relation.security.RateLimiter;
+import br.unb.garage_relation.security.RevocationCheckingJwtDecoder;
+import br.unb.garage_relation.security.TokenRevocationService;
+import com.github.benmanes.caffeine.cache.Ticker;
 import com.nimbusds.jose.jwk.JWK;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
-import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.JwtEncoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
-import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
 import org.springframework.security.oauth2.server.resource.web.BearerTokenAuthenticationEntryPoint;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.oauth2.server.resource.web.access.BearerTokenAccessDeniedHandler;
 import org.springframework.security.web.SecurityFilterChain;
 
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
 
+import static jakarta.servlet.DispatcherType.ASYNC;
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
+    @Value("${security.jwt.algorithm:RS256}")
+    private String algorithm;
+
     @Value("${security.jwt.public-key}")
-    private RSAPublicKey publicKey;
+    private Resource publicKey;
 
     @Value("${security.jwt.private-key}")
-    private RSAPrivateKey privateKey;
+    private Resource privateKey;
+
+    @Value("${security.jwt.previous-public-key:#{null}}")
+    private Resource previousPublicKey;
+
+    @Value("${security.jwt.decoder-cache.maximum-size:10000}")
+    private long decoderCacheMaximumSize;
+
+    @Value("${security.rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
+
+    @Value("${security.rate-limit.auth.permits-per-second:1}")
+    private double authPermitsPerSecond;
+
+    @Value("${security.rate-limit.auth.burst:10}")
+    private int authBurst;
+
+    @Value("${security.rate-limit.api.permits-per-second:50}")
+    private double apiPermitsPerSecond;
+
+    @Value("${security.rate-limit.api.burst:100}")
+    private int apiBurst;
+
+    @Value("${security.rate-limit.maximum-size:100000}")
+    private long rateLimitMaximumSize;
+
+    @Value("${security.rate-limit.idle-timeout:10m}")
+    private Duration rateLimitIdleTimeout;
+
+    private JWK signingKey;
 
     @PostConstruct
     protected void init() {
         if (publicKey == null || privateKey == null) {
             throw new RuntimeException("Public and private keys must be set");
         }
+
+        signingKey = JwtKeys.signingKey(JwtKeys.algorithm(algorithm), publicKey, privateKey);
     }
 
     @Bean
@@ -50,27 +89,59 @@ public class SecurityConfig {
     }
 
     @Bean
-    JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(publicKey).build();
+    JwtDecoder jwtDecoder(MeterRegistry meterRegistry, TokenRevocationService tokenRevocationService) {
+        var verificationKeys = new ArrayList<JWK>();
+        verificationKeys.add(signingKey);
+
+        if (previousPublicKey != null) {
+            verificationKeys.add(JwtKeys.verificationKey(previousPublicKey));
+        }
+
+        var cachingDecoder = new CachingJwtDecoder(
+                JwtKeys.decoder(verificationKeys),
+                decoderCacheMaximumSize,
+                meterRegistry
+        );
+        return new RevocationCheckingJwtDecoder(cachingDecoder, tokenRevocationService);
     }
 
     @Bean
     JwtEncoder jwtEncoder() {
-        JWK jwk = new RSAKey.Builder(publicKey).privateKey(privateKey).build();
-        JWKSource<SecurityContext> jwkSet = new ImmutableJWKSet<>(new JWKSet(jwk));
-        return new NimbusJwtEncoder(jwkSet);
+        return JwtKeys.encoder(signingKey);
+    }
+
+    // not a bean, so Boot does not also register it as a servlet filter outside the security chain
+    private RateLimitFilter rateLimitFilter(MeterRegistry meterRegistry) {
+        return new RateLimitFilter(
+                rateLimiter(authPermitsPerSecond, authBurst),
+                rateLimiter(apiPermitsPerSecond, apiBurst),
+                meterRegistry
+        );
+    }
+
+    private RateLimiter rateLimiter(double permitsPerSecond, int burst) {
+        return new RateLimiter(
+                permitsPerSecond,
+                burst,
+                rateLimitMaximumSize,
+                rateLimitIdleTimeout,
+                Ticker.systemTicker(),
+                ForkJoinPool.commonPool()
+        );
     }
 
     @Bean
-    public SecurityFilterChain configureFilters(HttpSecurity http) throws Exception {
+    public SecurityFilterChain configureFilters(HttpSecurity http, MeterRegistry meterRegistry) throws Exception {
         http
                 .authorizeHttpRequests((auth) -> {
+                            auth.dispatcherTypeMatchers(ASYNC).permitAll();
                             auth.requestMatchers(
                                     "/auth/**",
                                     "/v3/api-docs/**",
-                                    "/swagger-ui/**"
+                                    "/swagger-ui/**",
+                                    "/actuator/health"
                             ).permitAll();
-                            auth.requestMatchers("/api/**").authenticated();
+                            auth.requestMatchers("/api/**", "/actuator/**").authenticated();
                             auth.requestMatchers("/users").denyAll();
                         }
                 )
@@ -89,6 +160,10 @@ public class SecurityConfig {
                     exceptions.accessDeniedHandler(new BearerTokenAccessDeniedHandler());
                 });
 
+        if (rateLimitEnabled) {
+            http.addFilterAfter(rateLimitFilter(meterRegistry), BearerTokenAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
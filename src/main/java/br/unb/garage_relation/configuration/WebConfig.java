@@ -1,9 +1,13 @@
 package br.unb.garage_relation.configuration;
 
+import br.unb.garage_relation.serialization.converter.CborJackson2HttpMessageConverter;
+import br.unb.garage_relation.serialization.converter.SmileJackson2HttpMessageConverter;
 import br.unb.garage_relation.serialization.converter.YamlJackson2HttpMessageConverter;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -11,6 +15,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import java.util.Arrays;
 import java.util.List;
 
+import static br.unb.garage_relation.Constants.MEDIA_TYPE_APPLICATION_CBOR;
+import static br.unb.garage_relation.Constants.MEDIA_TYPE_APPLICATION_SMILE;
 import static br.unb.garage_relation.Constants.MEDIA_TYPE_APPLICATION_YAML;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_XML;
@@ -22,7 +28,13 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Spring MVC registers its own CBOR/Smile converters when the formats are on the classpath; use ours instead
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                || converter instanceof MappingJackson2SmileHttpMessageConverter);
+
         converters.add(new YamlJackson2HttpMessageConverter());
+        converters.add(new CborJackson2HttpMessageConverter());
+        converters.add(new SmileJackson2HttpMessageConverter());
     }
 
     @Override
@@ -34,7 +46,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .defaultContentType(APPLICATION_JSON)
                 .mediaType("xml", APPLICATION_XML)
                 .mediaType("json", APPLICATION_JSON)
-                .mediaType("x-yaml", MEDIA_TYPE_APPLICATION_YAML);
+                .mediaType("x-yaml", MEDIA_TYPE_APPLICATION_YAML)
+                .mediaType("cbor", MEDIA_TYPE_APPLICATION_CBOR)
+                .mediaType("smile", MEDIA_TYPE_APPLICATION_SMILE);
     }
 
     @Override
@@ -30,8 +30,8 @@ public class AuthController {
 
     @PostMapping(
             value = "/login",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Login",
@@ -51,8 +51,8 @@ public class AuthController {
 
     @PutMapping(
             value = "/refresh",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Refresh token",
@@ -95,8 +95,8 @@ public class AuthController {
 
     @PostMapping(
             value = "/signup",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Sign up",
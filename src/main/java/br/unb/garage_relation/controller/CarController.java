@@ -1,9 +1,16 @@
 package br.unb.garage_relation.controller;
 
+import br.unb.garage_relation.model.dto.request.CarBatchUpdateDTO;
 import br.unb.garage_relation.model.dto.request.CarCreateDTO;
 import br.unb.garage_relation.model.dto.request.CarPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.CarUpdateDTO;
+import br.unb.garage_relation.model.dto.response.CarBatchResultDTO;
+import br.unb.garage_relation.model.dto.response.CarImportResultDTO;
 import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.model.dto.response.CarStatisticsResponseDTO;
+import br.unb.garage_relation.service.CarBatchService;
+import br.unb.garage_relation.service.CarExportService;
+import br.unb.garage_relation.service.CarImportService;
 import br.unb.garage_relation.service.CarService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -12,11 +19,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 import static br.unb.garage_relation.Constants.*;
 import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 
 @RestController
@@ -24,17 +44,29 @@ import static org.springframework.hateoas.IanaLinkRelations.SELF;
 @Tag(name = "Car", description = "Endpoints for managing cars")
 public class CarController {
     private final CarService carService;
+    private final CarExportService carExportService;
+    private final CarBatchService carBatchService;
+    private final CarImportService carImportService;
 
-    public CarController(CarService carService) {
+    public CarController(
+            CarService carService,
+            CarExportService carExportService,
+            CarBatchService carBatchService,
+            CarImportService carImportService
+    ) {
         this.carService = carService;
+        this.carExportService = carExportService;
+        this.carBatchService = carBatchService;
+        this.carImportService = carImportService;
     }
 
     @GetMapping(
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Finds all cars",
-            description = "Finds all cars in the database",
+            description = "Finds all cars in the database, one page at a time ordered by id. " +
+                    "Follow the 'next' link to fetch the following page",
             tags = {"Car"},
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success"),
@@ -42,13 +74,140 @@ public class CarController {
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
             }
     )
-    public CollectionModel<EntityModel<CarResponseDTO>> findAll() {
-        return carService.findAll();
+    public CollectionModel<EntityModel<CarResponseDTO>> findAll(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return carService.findAll(cursor, size);
+    }
+
+    @GetMapping(
+            value = "search",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Searches cars",
+            description = "Finds cars whose brand or model contains the query, one page at a time ordered by id. " +
+                    "Follow the 'next' link to fetch the following page",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public CollectionModel<EntityModel<CarResponseDTO>> search(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return carService.search(query, cursor, size);
+    }
+
+    @GetMapping(
+            value = "statistics",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Counts cars by brand, model or year",
+            description = "Counts the cars of every brand, model or year, as chosen by 'groupBy' (brand by default). " +
+                    "Counts cover all cars, or only those of 'ownerId' when given",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public CarStatisticsResponseDTO statistics(
+            @RequestParam(required = false) String groupBy,
+            @RequestParam(required = false) Long ownerId
+    ) {
+        return carService.statistics(groupBy, ownerId);
+    }
+
+    @GetMapping(
+            value = "export",
+            produces = {APPLICATION_NDJSON, TEXT_CSV}
+    )
+    @Operation(
+            summary = "Exports all cars",
+            description = "Streams every car in the database as NDJSON (format=ndjson) or CSV (format=csv)",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        var exportFormat = CarExportService.Format.of(format);
+        StreamingResponseBody body = outputStream -> carExportService.export(exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(CONTENT_DISPOSITION, "attachment; filename=cars." + exportFormat.getExtension())
+                .body(body);
+    }
+
+    @PostMapping(
+            value = "import",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {TEXT_CSV, APPLICATION_NDJSON}
+    )
+    @Operation(
+            summary = "Imports cars",
+            description = "Imports cars from a CSV body with a model, brand and year header, or from an NDJSON body, " +
+                    "for the authenticated user. Rows are saved in transactions of " + IMPORT_CHUNK_SIZE + ". " +
+                    "Rows that fail are reported by index, the first " + MAX_IMPORT_ERRORS + " of them in detail",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public CarImportResultDTO importCars(
+            @RequestHeader(CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        return carImportService.importCars(CarExportService.Format.of(MediaType.parseMediaType(contentType)), body);
+    }
+
+    @PostMapping(
+            value = "import",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = MULTIPART_FORM_DATA_VALUE
+    )
+    @Operation(
+            summary = "Imports cars from an uploaded file",
+            description = "Same as importing a CSV or NDJSON body, for a 'file' part named cars.csv or cars.ndjson",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public CarImportResultDTO importCarsFile(@RequestParam("file") MultipartFile file) throws IOException {
+        var extension = StringUtils.getFilenameExtension(file.getOriginalFilename());
+        var format = extension != null
+                ? CarExportService.Format.of(extension)
+                : CarExportService.Format.of(MediaType.parseMediaType(file.getContentType()));
+
+        try (var inputStream = file.getInputStream()) {
+            return carImportService.importCars(format, inputStream);
+        }
     }
 
     @GetMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Finds a car",
@@ -56,18 +215,27 @@ public class CarController {
             tags = {"Car"},
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
                     @ApiResponse(responseCode = "404", description = "Not Found", content = @Content)
             }
     )
-    public EntityModel<CarResponseDTO> findById(@PathVariable Long id) {
-        return carService.findById(id);
+    public ResponseEntity<EntityModel<CarResponseDTO>> findById(@PathVariable Long id, WebRequest request) {
+        var car = carService.findById(id);
+        var eTag = ETags.of(car.getContent().version());
+
+        // answers 304 itself, before the body is serialized
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(car);
     }
 
     @PostMapping(
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Creates a car",
@@ -89,8 +257,8 @@ public class CarController {
 
     @PutMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Updates a car",
@@ -101,17 +269,23 @@ public class CarController {
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
                     @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
+                    @ApiResponse(responseCode = "412", description = "Precondition Failed", content = @Content),
                     @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
             }
     )
-    public EntityModel<CarResponseDTO> update(@PathVariable Long id, @RequestBody @Valid CarUpdateDTO carUpdateDTO) {
-        return carService.update(id, carUpdateDTO);
+    public ResponseEntity<EntityModel<CarResponseDTO>> update(
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid CarUpdateDTO carUpdateDTO
+    ) {
+        var car = carService.update(id, carUpdateDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(car.getContent().version())).body(car);
     }
 
     @PatchMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Updates a car partially",
@@ -122,16 +296,22 @@ public class CarController {
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
                     @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
+                    @ApiResponse(responseCode = "412", description = "Precondition Failed", content = @Content),
                     @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
             }
     )
-    public EntityModel<CarResponseDTO> partialUpdate(@PathVariable Long id, @RequestBody @Valid CarPartialUpdateDTO carPartialUpdateDTO) {
-        return carService.partialUpdate(id, carPartialUpdateDTO);
+    public ResponseEntity<EntityModel<CarResponseDTO>> partialUpdate(
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid CarPartialUpdateDTO carPartialUpdateDTO
+    ) {
+        var car = carService.partialUpdate(id, carPartialUpdateDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(car.getContent().version())).body(car);
     }
 
     @DeleteMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Deletes a car",
@@ -148,4 +328,67 @@ public class CarController {
         carService.delete(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping(
+            value = "batch",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Creates many cars",
+            description = "Creates up to " + MAX_BATCH_SIZE + " cars in one transaction. " +
+                    "Each item gets its own result; invalid items are skipped and reported with status 400",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public List<CarBatchResultDTO> createBatch(@RequestBody List<CarCreateDTO> carCreateDTOs) {
+        return carBatchService.create(carCreateDTOs);
+    }
+
+    @PatchMapping(
+            value = "batch",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Updates many cars partially",
+            description = "Updates up to " + MAX_BATCH_SIZE + " cars in one transaction. " +
+                    "Each item gets its own result; invalid items are reported with status 400 and missing cars with 404",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public List<CarBatchResultDTO> partialUpdateBatch(@RequestBody List<CarBatchUpdateDTO> carBatchUpdateDTOs) {
+        return carBatchService.update(carBatchUpdateDTOs);
+    }
+
+    @DeleteMapping(
+            value = "batch",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Deletes many cars",
+            description = "Deletes up to " + MAX_BATCH_SIZE + " cars, given by id, in one statement. " +
+                    "Each id gets its own result; missing cars are reported with status 404",
+            tags = {"Car"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content)
+            }
+    )
+    public List<CarBatchResultDTO> deleteBatch(@RequestBody List<Long> ids) {
+        return carBatchService.delete(ids);
+    }
 }
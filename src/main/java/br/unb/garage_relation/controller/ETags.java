@@ -0,0 +1,39 @@
+package br.unb.garage_relation.controller;
+
+import br.unb.garage_relation.exception.PreconditionFailedException;
+
+/**
+ * Strong ETags built from an entity's {@code @Version}: {@code "3"} for version 3.
+ */
+public final class ETags {
+    private static final String ANY = "*";
+
+    private ETags() {
+    }
+
+    public static String of(Long version) {
+        return '"' + String.valueOf(version) + '"';
+    }
+
+    /**
+     * The version an {@code If-Match} header asks for, or null when the header is absent or {@code *}.
+     * Weak validators never match, since If-Match uses strong comparison.
+     */
+    public static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.strip().equals(ANY)) {
+            return null;
+        }
+
+        var eTag = ifMatch.strip();
+
+        if (eTag.length() < 2 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+            throw new PreconditionFailedException("If-Match must be a single strong ETag");
+        }
+
+        try {
+            return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package br.unb.garage_relation.controller;
 
 import br.unb.garage_relation.model.dto.request.UserPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.UserUpdateDTO;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
 import br.unb.garage_relation.model.dto.response.UserResponseDTO;
 import br.unb.garage_relation.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,8 +13,10 @@ import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import static br.unb.garage_relation.Constants.*;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 
 @RestController
 @Tag(name = "User", description = "Endpoints for user management")
@@ -26,11 +29,12 @@ public class UserController {
     }
 
     @GetMapping(
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Finds all users",
-            description = "Finds all users in the database",
+            description = "Finds all users in the database, one page at a time ordered by id. " +
+                    "Follow the 'next' link to fetch the following page",
             tags = {"User"},
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success"),
@@ -38,13 +42,16 @@ public class UserController {
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content)
             }
     )
-    public CollectionModel<EntityModel<UserResponseDTO>> list() {
-        return userService.list();
+    public CollectionModel<EntityModel<UserResponseDTO>> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return userService.list(cursor, size);
     }
 
     @GetMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Finds a user",
@@ -52,19 +59,51 @@ public class UserController {
             tags = {"User"},
             responses = {
                     @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "304", description = "Not Modified", content = @Content),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
                     @ApiResponse(responseCode = "404", description = "Not Found", content = @Content)
             }
     )
-    public EntityModel<UserResponseDTO> findById(@PathVariable Long id) {
-        return userService.findById(id);
+    public ResponseEntity<EntityModel<UserResponseDTO>> findById(@PathVariable Long id, WebRequest request) {
+        var user = userService.findById(id);
+        var eTag = ETags.of(user.getContent().version());
+
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        return ResponseEntity.ok().eTag(eTag).body(user);
+    }
+
+    @GetMapping(
+            value = "{id}/cars",
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
+    )
+    @Operation(
+            summary = "Finds the cars of a user",
+            description = "Finds the cars owned by a user, one page at a time ordered by id. " +
+                    "Follow the 'next' link to fetch the following page",
+            tags = {"User"},
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Success"),
+                    @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
+                    @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
+                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content)
+            }
+    )
+    public CollectionModel<EntityModel<CarResponseDTO>> findCars(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return userService.findCars(id, cursor, size);
     }
 
     @PutMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Updates a user",
@@ -74,17 +113,23 @@ public class UserController {
                     @ApiResponse(responseCode = "200", description = "Success"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
-                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content)
+                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
+                    @ApiResponse(responseCode = "412", description = "Precondition Failed", content = @Content)
             }
     )
-    public EntityModel<UserResponseDTO> update(@PathVariable Long id, @RequestBody UserUpdateDTO userRequestDTO) {
-        return userService.update(id, userRequestDTO);
+    public ResponseEntity<EntityModel<UserResponseDTO>> update(
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserUpdateDTO userRequestDTO
+    ) {
+        var user = userService.update(id, userRequestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(user.getContent().version())).body(user);
     }
 
     @PatchMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML},
-            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE},
+            consumes = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Partial updates a user",
@@ -94,16 +139,22 @@ public class UserController {
                     @ApiResponse(responseCode = "200", description = "Success"),
                     @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content),
                     @ApiResponse(responseCode = "403", description = "Forbidden", content = @Content),
-                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content)
+                    @ApiResponse(responseCode = "404", description = "Not Found", content = @Content),
+                    @ApiResponse(responseCode = "412", description = "Precondition Failed", content = @Content)
             }
     )
-    public EntityModel<UserResponseDTO> partialUpdate(@PathVariable Long id, @RequestBody UserPartialUpdateDTO userRequestDTO) {
-        return userService.partialUpdate(id, userRequestDTO);
+    public ResponseEntity<EntityModel<UserResponseDTO>> partialUpdate(
+            @PathVariable Long id,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch,
+            @RequestBody UserPartialUpdateDTO userRequestDTO
+    ) {
+        var user = userService.partialUpdate(id, userRequestDTO, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(user.getContent().version())).body(user);
     }
 
     @DeleteMapping(
             value = "{id}",
-            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML}
+            produces = {APPLICATION_JSON, APPLICATION_XML, APPLICATION_YAML, APPLICATION_CBOR, APPLICATION_SMILE}
     )
     @Operation(
             summary = "Deletes a user",
@@ -9,7 +9,15 @@ import java.util.Objects;
 @Table(name = "car")
 public class Car {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "car_id")
+	@TableGenerator(
+			name = "car_id",
+			table = "id_generator",
+			pkColumnName = "name",
+			valueColumnName = "next_value",
+			pkColumnValue = "car",
+			allocationSize = 50
+	)
 	private Long id;
 
 	@Column(length = 50, nullable = false)
@@ -21,6 +29,9 @@ public class Car {
 	@Column(nullable = false)
 	private Integer year;
 
+	@Version
+	private Long version;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "owner_id", referencedColumnName = "id")
 	private User owner;
@@ -75,6 +86,10 @@ public class Car {
 		this.year = year;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
 	public User getOwner() {
 		return owner;
 	}
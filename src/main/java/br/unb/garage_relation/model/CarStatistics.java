@@ -0,0 +1,81 @@
+package br.unb.garage_relation.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Number of cars per owner, brand, model and year. Rows with {@link #GLOBAL_OWNER_ID} count every owner's cars.
+ */
+@Entity
+@Table(name = "car_statistics")
+public class CarStatistics {
+	public static final long GLOBAL_OWNER_ID = 0L;
+
+	@EmbeddedId
+	private Key key;
+
+	@Column(name = "car_count", nullable = false)
+	private Long carCount;
+
+	public CarStatistics() {
+	}
+
+	public Key getKey() {
+		return key;
+	}
+
+	public Long getCarCount() {
+		return carCount;
+	}
+
+	@Embeddable
+	public static class Key implements Serializable {
+		@Column(name = "owner_id", nullable = false)
+		private Long ownerId;
+
+		@Column(length = 50, nullable = false)
+		private String brand;
+
+		@Column(length = 50, nullable = false)
+		private String model;
+
+		@Column(nullable = false)
+		private Integer year;
+
+		public Key() {
+		}
+
+		public Long getOwnerId() {
+			return ownerId;
+		}
+
+		public String getBrand() {
+			return brand;
+		}
+
+		public String getModel() {
+			return model;
+		}
+
+		public Integer getYear() {
+			return year;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) return true;
+			if (!(o instanceof Key key)) return false;
+			return Objects.equals(ownerId, key.ownerId)
+					&& Objects.equals(brand, key.brand)
+					&& Objects.equals(model, key.model)
+					&& Objects.equals(year, key.year);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(ownerId, brand, model, year);
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package br.unb.garage_relation.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "revoked_token")
+public class RevokedToken {
+	@Id
+	@Column(length = 36)
+	private String jti;
+
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	public RevokedToken(String jti, Instant expiresAt) {
+		this.jti = jti;
+		this.expiresAt = expiresAt;
+	}
+
+	public RevokedToken() {
+	}
+
+	public String getJti() {
+		return jti;
+	}
+
+	public Instant getExpiresAt() {
+		return expiresAt;
+	}
+}
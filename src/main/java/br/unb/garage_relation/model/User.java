@@ -26,6 +26,9 @@ public class User implements UserDetails {
 	@Column(length = 100, name = "full_name")
 	private String fullName;
 
+	@Version
+	private Long version;
+
 	@ManyToMany(fetch = FetchType.LAZY, cascade = {
 			CascadeType.PERSIST,
 			CascadeType.MERGE,
@@ -119,6 +122,10 @@ public class User implements UserDetails {
 		this.cars = cars;
 	}
 
+	public Long getVersion() {
+		return version;
+	}
+
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
 		return permissions;
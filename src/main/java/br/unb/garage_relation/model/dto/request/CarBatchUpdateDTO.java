@@ -0,0 +1,14 @@
+package br.unb.garage_relation.model.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.hibernate.validator.constraints.Length;
+
+public record CarBatchUpdateDTO(
+        @NotNull Long id,
+        @Length(max = 50) String model,
+        @Length(max = 50) String brand,
+        @Min(1800) @Max(3000) Integer year
+) {
+}
@@ -0,0 +1,16 @@
+package br.unb.garage_relation.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotNull;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+@JsonInclude(NON_NULL)
+public record CarBatchResultDTO(
+        @NotNull Integer index,
+        @NotNull Integer status,
+        Long id,
+        CarResponseDTO car,
+        String error
+) {
+}
@@ -0,0 +1,13 @@
+package br.unb.garage_relation.model.dto.response;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record CarImportResultDTO(
+        long rows,
+        long imported,
+        long failed,
+        @NotNull List<CarBatchResultDTO> errors
+) {
+}
@@ -1,5 +1,6 @@
 package br.unb.garage_relation.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -9,7 +10,10 @@ public record CarResponseDTO(
         @NotNull Long id,
         @NotNull @Length(max = 50) String model,
         @NotNull @Length(max = 50) String brand,
-        @NotNull @Min(1800) @Max(3000) Integer year
+        @NotNull @Min(1800) @Max(3000) Integer year,
+        @JsonIgnore Long version
 ) {
-
+    public CarResponseDTO(Long id, String model, String brand, Integer year) {
+        this(id, model, brand, year, null);
+    }
 }
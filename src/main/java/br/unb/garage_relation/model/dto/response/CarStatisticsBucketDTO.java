@@ -0,0 +1,7 @@
+package br.unb.garage_relation.model.dto.response;
+
+public record CarStatisticsBucketDTO(
+        String value,
+        Long count
+) {
+}
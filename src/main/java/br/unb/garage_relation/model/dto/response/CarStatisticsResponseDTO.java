@@ -0,0 +1,14 @@
+package br.unb.garage_relation.model.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CarStatisticsResponseDTO(
+        String groupBy,
+        Long ownerId,
+        long total,
+        List<CarStatisticsBucketDTO> buckets
+) {
+}
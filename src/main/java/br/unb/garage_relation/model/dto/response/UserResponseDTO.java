@@ -1,5 +1,6 @@
 package br.unb.garage_relation.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 
@@ -7,6 +8,10 @@ public record UserResponseDTO(
         @NotNull Long id,
         @NotNull String username,
         @NotNull @Email String email,
-        @NotNull String fullName
+        @NotNull String fullName,
+        @JsonIgnore Long version
 ) {
+    public UserResponseDTO(Long id, String username, String email, String fullName) {
+        this(id, username, email, fullName, null);
+    }
 }
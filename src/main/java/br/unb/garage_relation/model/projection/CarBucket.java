@@ -0,0 +1,17 @@
+package br.unb.garage_relation.model.projection;
+
+import br.unb.garage_relation.model.Car;
+
+/**
+ * The statistics bucket a car is counted in.
+ */
+public record CarBucket(
+        Long ownerId,
+        String brand,
+        String model,
+        Integer year
+) {
+    public static CarBucket of(Car car) {
+        return new CarBucket(car.getOwner().getId(), car.getBrand(), car.getModel(), car.getYear());
+    }
+}
@@ -0,0 +1,32 @@
+package br.unb.garage_relation.model.projection;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * What login needs from a user: the password hash and the permission names, read without loading the entity.
+ */
+public record UserCredentials(
+        Long id,
+        String username,
+        String password,
+        List<String> roles
+) {
+    public static Optional<UserCredentials> of(List<UserCredentialsRow> rows) {
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+
+        var first = rows.get(0);
+        var roles = new ArrayList<String>(rows.size());
+
+        for (var row : rows) {
+            if (row.permission() != null) {
+                roles.add(row.permission());
+            }
+        }
+
+        return Optional.of(new UserCredentials(first.id(), first.username(), first.password(), List.copyOf(roles)));
+    }
+}
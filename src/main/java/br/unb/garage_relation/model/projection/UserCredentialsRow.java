@@ -0,0 +1,12 @@
+package br.unb.garage_relation.model.projection;
+
+/**
+ * One row of the user / permission join; a user without permissions comes back as a single row with a null permission.
+ */
+public record UserCredentialsRow(
+        Long id,
+        String username,
+        String password,
+        String permission
+) {
+}
@@ -1,15 +1,59 @@
 package br.unb.garage_relation.repository;
 
 import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface CarRepository extends JpaRepository<Car, Long> {
     @Query("FROM Car c WHERE c.brand LIKE CONCAT('%',:query,'%') OR c.model LIKE CONCAT('%',:query,'%')")
     List<Car> findByBrandOrModelContains(@Param("query") String query);
-}
\ No newline at end of file
+
+    Slice<Car> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // constructor expressions return plain DTOs, so reads never hydrate or snapshot Car entities
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarResponseDTO(c.id, c.model, c.brand, c.year, c.version) " +
+            "FROM Car c WHERE c.id > :after ORDER BY c.id")
+    Slice<CarResponseDTO> findResponsesAfter(@Param("after") Long after, Pageable pageable);
+
+    // seeks on the owner_id foreign-key index, which InnoDB keeps ordered by (owner_id, id)
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarResponseDTO(c.id, c.model, c.brand, c.year, c.version) " +
+            "FROM Car c WHERE c.owner.id = :ownerId AND c.id > :after ORDER BY c.id")
+    Slice<CarResponseDTO> findResponsesByOwnerAfter(
+            @Param("ownerId") Long ownerId,
+            @Param("after") Long after,
+            Pageable pageable
+    );
+
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarResponseDTO(c.id, c.model, c.brand, c.year, c.version) " +
+            "FROM Car c WHERE c.id = :id")
+    Optional<CarResponseDTO> findResponseById(@Param("id") Long id);
+
+    @Query(
+            value = "SELECT * FROM car WHERE MATCH (brand, model) AGAINST (:query IN BOOLEAN MODE) AND id > :after ORDER BY id",
+            nativeQuery = true
+    )
+    Slice<Car> searchByBrandOrModel(@Param("query") String query, @Param("after") Long after, Pageable pageable);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time instead of buffering the result set
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("FROM Car c ORDER BY c.id")
+    Stream<Car> streamAll();
+}
@@ -0,0 +1,61 @@
+package br.unb.garage_relation.repository;
+
+import br.unb.garage_relation.model.CarStatistics;
+import br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CarStatisticsRepository extends JpaRepository<CarStatistics, CarStatistics.Key> {
+    // moves one bucket, an owner's or the global one (owner 0); a new bucket starts at the delta
+    @Modifying
+    @Query(
+            value = "INSERT INTO car_statistics (owner_id, brand, model, year, car_count) " +
+                    "VALUES (:ownerId, :brand, :model, :year, :delta) AS new " +
+                    "ON DUPLICATE KEY UPDATE car_count = car_count + new.car_count",
+            nativeQuery = true
+    )
+    void add(
+            @Param("ownerId") Long ownerId,
+            @Param("brand") String brand,
+            @Param("model") String model,
+            @Param("year") Integer year,
+            @Param("delta") long delta
+    );
+
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO(s.key.brand, SUM(s.carCount)) " +
+            "FROM CarStatistics s WHERE s.key.ownerId = :ownerId " +
+            "GROUP BY s.key.brand HAVING SUM(s.carCount) > 0 ORDER BY s.key.brand")
+    List<CarStatisticsBucketDTO> countByBrand(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO(s.key.model, SUM(s.carCount)) " +
+            "FROM CarStatistics s WHERE s.key.ownerId = :ownerId " +
+            "GROUP BY s.key.model HAVING SUM(s.carCount) > 0 ORDER BY s.key.model")
+    List<CarStatisticsBucketDTO> countByModel(@Param("ownerId") Long ownerId);
+
+    @Query("SELECT new br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO(CAST(s.key.year AS String), SUM(s.carCount)) " +
+            "FROM CarStatistics s WHERE s.key.ownerId = :ownerId " +
+            "GROUP BY s.key.year HAVING SUM(s.carCount) > 0 ORDER BY s.key.year")
+    List<CarStatisticsBucketDTO> countByYear(@Param("ownerId") Long ownerId);
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO car_statistics (owner_id, brand, model, year, car_count) " +
+                    "SELECT owner_id, brand, model, year, COUNT(*) FROM car GROUP BY owner_id, brand, model, year",
+            nativeQuery = true
+    )
+    void insertOwnerCounts();
+
+    @Modifying
+    @Query(
+            value = "INSERT INTO car_statistics (owner_id, brand, model, year, car_count) " +
+                    "SELECT 0, brand, model, year, COUNT(*) FROM car GROUP BY brand, model, year",
+            nativeQuery = true
+    )
+    void insertGlobalCounts();
+}
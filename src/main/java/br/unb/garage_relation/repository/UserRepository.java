@@ -1,12 +1,33 @@
 package br.unb.garage_relation.repository;
 
 import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.projection.UserCredentials;
+import br.unb.garage_relation.model.projection.UserCredentialsRow;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
+
+    @Query("SELECT new br.unb.garage_relation.model.projection.UserCredentialsRow(u.id, u.username, u.password, p.name) " +
+            "FROM User u LEFT JOIN u.permissions p WHERE u.username = :username")
+    List<UserCredentialsRow> findCredentialRowsByUsername(@Param("username") String username);
+
+    // user and permission names in one round trip, folded into a single value
+    default Optional<UserCredentials> findCredentialsByUsername(String username) {
+        return UserCredentials.of(findCredentialRowsByUsername(username));
+    }
+
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
+    Slice<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
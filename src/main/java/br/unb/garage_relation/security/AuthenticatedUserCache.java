@@ -0,0 +1,58 @@
+package br.unb.garage_relation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class AuthenticatedUserCache {
+    private final Cache<String, Long> userIdsBySubject;
+
+    public AuthenticatedUserCache(
+            MeterRegistry meterRegistry,
+            @Value("${security.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${security.user-cache.ttl:5m}") Duration ttl
+    ) {
+        this.userIdsBySubject = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userIdsBySubject, "authenticated-users");
+    }
+
+    public Long getUserId(String subject, Function<String, Long> loader) {
+        return userIdsBySubject.get(subject, loader);
+    }
+
+    public void evict(String subject) {
+        userIdsBySubject.invalidate(subject);
+    }
+
+    /**
+     * Evicts once the current transaction commits, so a lookup racing the write cannot cache the old row again.
+     * An invalidation waits for a lookup of the same subject that is still loading.
+     */
+    public void evictAfterCommit(String subject) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(subject);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(subject);
+            }
+        });
+    }
+}
@@ -0,0 +1,186 @@
+package br.unb.garage_relation.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.util.Base64URL;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jose.jws.JwsAlgorithm;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPrivateKey;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Builds the JWT signing and verification keys for RS256, ES256 (P-256) and EdDSA (Ed25519) from PEM encoded
+ * X.509 public and PKCS#8 private keys, as written by {@code openssl genpkey} and {@code openssl pkey -pubout}.
+ */
+public final class JwtKeys {
+    public static final List<JWSAlgorithm> SUPPORTED_ALGORITHMS = List.of(
+            JWSAlgorithm.RS256,
+            JWSAlgorithm.ES256,
+            JWSAlgorithm.EdDSA
+    );
+
+    private static final int ED25519_KEY_LENGTH = 32;
+
+    private JwtKeys() {
+    }
+
+    public static JWSAlgorithm algorithm(String name) {
+        var algorithm = JWSAlgorithm.parse(name);
+
+        if (!SUPPORTED_ALGORITHMS.contains(algorithm)) {
+            throw new IllegalArgumentException("Unsupported JWT algorithm: " + name);
+        }
+
+        return algorithm;
+    }
+
+    public static JwsAlgorithm jwsAlgorithm(JWSAlgorithm algorithm) {
+        var signatureAlgorithm = SignatureAlgorithm.from(algorithm.getName());
+        return signatureAlgorithm != null ? signatureAlgorithm : algorithm::getName;
+    }
+
+    public static JWK signingKey(JWSAlgorithm algorithm, Resource publicKey, Resource privateKey) {
+        var keyType = keyType(algorithm);
+
+        try {
+            var keyFactory = KeyFactory.getInstance(keyType);
+            return jwk(
+                    algorithm,
+                    keyFactory.generatePublic(new X509EncodedKeySpec(pem(publicKey))),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(pem(privateKey)))
+            );
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Keys are not a " + algorithm + " key pair", e);
+        }
+    }
+
+    /**
+     * A public key only, for tokens signed before a key rotation. Its algorithm follows from the key type.
+     */
+    public static JWK verificationKey(Resource publicKey) {
+        var encoded = pem(publicKey);
+
+        for (var algorithm : SUPPORTED_ALGORITHMS) {
+            try {
+                var key = KeyFactory.getInstance(keyType(algorithm)).generatePublic(new X509EncodedKeySpec(encoded));
+                return jwk(algorithm, key, null);
+            } catch (GeneralSecurityException | IllegalArgumentException ignored) {
+                // not a key of this type, try the next one
+            }
+        }
+
+        throw new IllegalArgumentException("Unsupported public key: " + publicKey.getDescription());
+    }
+
+    public static JWK jwk(JWSAlgorithm algorithm, PublicKey publicKey, PrivateKey privateKey) {
+        try {
+            if (JWSAlgorithm.RS256.equals(algorithm)) {
+                var builder = new RSAKey.Builder((RSAPublicKey) publicKey);
+
+                if (privateKey != null) {
+                    builder.privateKey((RSAPrivateKey) privateKey);
+                }
+
+                return builder
+                        .algorithm(algorithm)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            }
+
+            if (JWSAlgorithm.ES256.equals(algorithm)) {
+                var ecPublicKey = (ECPublicKey) publicKey;
+
+                if (!Curve.P_256.equals(Curve.forECParameterSpec(ecPublicKey.getParams()))) {
+                    throw new IllegalArgumentException("ES256 requires a P-256 key");
+                }
+
+                var builder = new ECKey.Builder(Curve.P_256, ecPublicKey);
+
+                if (privateKey != null) {
+                    builder.privateKey((ECPrivateKey) privateKey);
+                }
+
+                return builder
+                        .algorithm(algorithm)
+                        .keyUse(KeyUse.SIGNATURE)
+                        .keyIDFromThumbprint()
+                        .build();
+            }
+
+            // the raw Ed25519 public key is the tail of its X.509 encoding
+            var encoded = publicKey.getEncoded();
+            var builder = new OctetKeyPair.Builder(
+                    Curve.Ed25519,
+                    Base64URL.encode(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length))
+            );
+
+            if (privateKey != null) {
+                builder.d(Base64URL.encode(((EdECPrivateKey) privateKey).getBytes().orElseThrow()));
+            }
+
+            return builder
+                    .algorithm(algorithm)
+                    .keyUse(KeyUse.SIGNATURE)
+                    .keyIDFromThumbprint()
+                    .build();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not compute the key id", e);
+        }
+    }
+
+    public static JwtEncoder encoder(JWK signingKey) {
+        return new SigningKeyJwtEncoder(signingKey);
+    }
+
+    public static JwtDecoder decoder(List<JWK> verificationKeys) {
+        return new NimbusJwtDecoder(new VerificationKeysJwtProcessor(verificationKeys));
+    }
+
+    private static String keyType(JWSAlgorithm algorithm) {
+        if (JWSAlgorithm.RS256.equals(algorithm)) {
+            return "RSA";
+        }
+
+        if (JWSAlgorithm.ES256.equals(algorithm)) {
+            return "EC";
+        }
+
+        return "Ed25519";
+    }
+
+    private static byte[] pem(Resource resource) {
+        try (var input = resource.getInputStream()) {
+            var content = new String(input.readAllBytes(), StandardCharsets.US_ASCII);
+            var body = content.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+            return Base64.getDecoder().decode(body);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read key " + resource.getDescription(), e);
+        }
+    }
+}
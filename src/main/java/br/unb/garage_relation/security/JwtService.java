@@ -1,12 +1,15 @@
 package br.unb.garage_relation.security;
 
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Service
 public class JwtService {
@@ -19,11 +22,19 @@ public class JwtService {
     @Value("${security.jwt.validity.refresh:1 day}")
     private String refreshExpiration = "1 day";
 
+    private JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+
     public JwtService(JwtEncoder encoder, JwtDecoder decoder) {
         this.encoder = encoder;
         this.decoder = decoder;
     }
 
+    @Value("${security.jwt.algorithm:RS256}")
+    public void setAlgorithm(String algorithm) {
+        header = JwsHeader.with(JwtKeys.jwsAlgorithm(JwtKeys.algorithm(algorithm))).build();
+    }
+
+    @Timed(value = "jwt", extraTags = {"operation", "create-access-token"})
     public Jwt createAccessToken(String username, List<String> roles) {
         var now = Instant.now();
         var expiresAt = now.plusMillis(parseValueToMilliseconds(accessExpiration));
@@ -31,6 +42,7 @@ public class JwtService {
         return createToken(username, roles, now, expiresAt);
     }
 
+    @Timed(value = "jwt", extraTags = {"operation", "create-refresh-token"})
     public Jwt createRefreshToken(String username, List<String> roles) {
         var now = Instant.now();
         var expiresAt = now.plusMillis(parseValueToMilliseconds(refreshExpiration));
@@ -38,6 +50,7 @@ public class JwtService {
         return createToken(username, roles, now, expiresAt);
     }
 
+    @Timed(value = "jwt", extraTags = {"operation", "decode"})
     public Jwt decode(String token) {
         return decoder.decode(token);
     }
@@ -46,6 +59,7 @@ public class JwtService {
         var issuer = ServletUriComponentsBuilder.fromCurrentContextPath().build().toUriString();
 
         var claims = JwtClaimsSet.builder()
+                .id(UUID.randomUUID().toString())
                 .issuer(issuer)
                 .issuedAt(now)
                 .expiresAt(expiresAt)
@@ -53,7 +67,7 @@ public class JwtService {
                 .claim("roles", roles)
                 .build();
 
-        return encoder.encode(JwtEncoderParameters.from(claims));
+        return encoder.encode(JwtEncoderParameters.from(header, claims));
     }
 
     private long parseValueToMilliseconds(String expiration) {
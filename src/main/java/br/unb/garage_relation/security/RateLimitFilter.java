@@ -0,0 +1,88 @@
+package br.unb.garage_relation.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Limits {@code /auth/**} and {@code /api/**} separately. Requests are counted against the authenticated subject,
+ * or the client address before login, so runs after bearer-token authentication. Behind a proxy the client address
+ * is only right when {@code server.forward-headers-strategy} is {@code native}, which takes it from
+ * {@code X-Forwarded-For} for requests coming from a trusted (by default, private network) proxy; otherwise every
+ * anonymous client shares the proxy's bucket.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private final RateLimiter authLimiter;
+    private final RateLimiter apiLimiter;
+    private final Counter authRejections;
+    private final Counter apiRejections;
+
+    public RateLimitFilter(RateLimiter authLimiter, RateLimiter apiLimiter, MeterRegistry meterRegistry) {
+        this.authLimiter = authLimiter;
+        this.apiLimiter = apiLimiter;
+        this.authRejections = rejections(meterRegistry, "auth");
+        this.apiRejections = rejections(meterRegistry, "api");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimiter limiter;
+        Counter rejections;
+
+        if (path.startsWith("/api/")) {
+            limiter = apiLimiter;
+            rejections = apiRejections;
+        } else if (path.startsWith("/auth/")) {
+            limiter = authLimiter;
+            rejections = authRejections;
+        } else {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        var wait = limiter.tryAcquire(key(request));
+
+        if (wait != RateLimiter.ALLOWED) {
+            rejections.increment();
+            response.setStatus(TOO_MANY_REQUESTS.value());
+            response.setHeader(RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + 999_999_999))));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static String key(HttpServletRequest request) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "subject:" + authentication.getName();
+        }
+
+        return "address:" + request.getRemoteAddr();
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String group) {
+        return Counter.builder("rate.limit.rejected")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,96 @@
+package br.unb.garage_relation.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket per key, kept as a single "theoretical arrival time" (GCRA): a request is allowed while that time is
+ * no more than the burst ahead of now, and each allowed request pushes it one emission interval further. The state
+ * is one {@link AtomicLong} per key updated by compare-and-set, held in a size-bounded Caffeine map.
+ * <p>
+ * Idle keys are swept in the background at most once per idle timeout rather than through Caffeine's
+ * expire-after-access, whose per-read bookkeeping costs more than the limiter itself. A key whose arrival time is
+ * that far in the past is a full bucket, so dropping it changes nothing.
+ */
+public class RateLimiter {
+    public static final long ALLOWED = 0L;
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final long idleTimeout;
+    private final Ticker ticker;
+    private final Executor sweeper;
+    private final Cache<String, AtomicLong> arrivalTimes;
+    private final AtomicLong nextSweep;
+
+    public RateLimiter(double permitsPerSecond, int burst, long maximumSize, Duration idleTimeout, Ticker ticker) {
+        this(permitsPerSecond, burst, maximumSize, idleTimeout, ticker, Runnable::run);
+    }
+
+    public RateLimiter(
+            double permitsPerSecond,
+            int burst,
+            long maximumSize,
+            Duration idleTimeout,
+            Ticker ticker,
+            Executor sweeper
+    ) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate must be positive and burst at least 1");
+        }
+
+        this.emissionInterval = (long) (Duration.ofSeconds(1).toNanos() / permitsPerSecond);
+        this.burstTolerance = emissionInterval * (burst - 1);
+        this.idleTimeout = idleTimeout.toNanos();
+        this.ticker = ticker;
+        this.sweeper = sweeper;
+        this.arrivalTimes = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        this.nextSweep = new AtomicLong(ticker.read() + this.idleTimeout);
+    }
+
+    /**
+     * @return {@link #ALLOWED}, or how many nanoseconds the caller has to wait before the next request is allowed
+     */
+    public long tryAcquire(String key) {
+        var arrivalTime = arrivalTimes.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        var now = ticker.read();
+
+        sweepIfDue(now);
+
+        while (true) {
+            var current = arrivalTime.get();
+            var theoretical = Math.max(current, now);
+            var wait = theoretical - burstTolerance - now;
+
+            if (wait > 0) {
+                return wait;
+            }
+
+            if (arrivalTime.compareAndSet(current, theoretical + emissionInterval)) {
+                return ALLOWED;
+            }
+        }
+    }
+
+    public long estimatedSize() {
+        return arrivalTimes.estimatedSize();
+    }
+
+    private void sweepIfDue(long now) {
+        var due = nextSweep.get();
+
+        if (now - due < 0 || !nextSweep.compareAndSet(due, now + idleTimeout)) {
+            return;
+        }
+
+        var idleBefore = now - idleTimeout;
+        sweeper.execute(() -> arrivalTimes.asMap().values().removeIf(arrivalTime -> arrivalTime.get() - idleBefore < 0));
+    }
+}
@@ -0,0 +1,31 @@
+package br.unb.garage_relation.security;
+
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Rejects revoked tokens. Sits outside {@link CachingJwtDecoder} so a token revoked after its first use is
+ * refused even while its verification is still cached.
+ */
+public class RevocationCheckingJwtDecoder implements JwtDecoder {
+    private final JwtDecoder delegate;
+    private final TokenRevocationService tokenRevocationService;
+
+    public RevocationCheckingJwtDecoder(JwtDecoder delegate, TokenRevocationService tokenRevocationService) {
+        this.delegate = delegate;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        var jwt = delegate.decode(token);
+
+        if (tokenRevocationService.isRevoked(jwt)) {
+            throw new BadJwtException("Token has been revoked");
+        }
+
+        return jwt;
+    }
+}
@@ -0,0 +1,83 @@
+package br.unb.garage_relation.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.factories.DefaultJWSSignerFactory;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtEncodingException;
+
+import java.net.URL;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Signs every token with one key, whose signer is created once. Unlike {@code NimbusJwtEncoder}, which selects the
+ * key on every call, this also signs EdDSA. The token header carries the key id, so verifiers can tell keys apart
+ * during a rotation.
+ */
+public class SigningKeyJwtEncoder implements JwtEncoder {
+    private final JWSAlgorithm algorithm;
+    private final JWSHeader header;
+    private final JWSSigner signer;
+
+    public SigningKeyJwtEncoder(JWK signingKey) {
+        this.algorithm = JWSAlgorithm.parse(signingKey.getAlgorithm().getName());
+        this.header = new JWSHeader.Builder(algorithm).keyID(signingKey.getKeyID()).build();
+
+        try {
+            this.signer = new DefaultJWSSignerFactory().createJWSSigner(signingKey, algorithm);
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Not a " + algorithm + " signing key", e);
+        }
+    }
+
+    @Override
+    public Jwt encode(JwtEncoderParameters parameters) throws JwtEncodingException {
+        var requestedHeader = parameters.getJwsHeader();
+
+        if (requestedHeader != null && !algorithm.getName().equals(requestedHeader.getAlgorithm().getName())) {
+            throw new JwtEncodingException("The signing key does not support " + requestedHeader.getAlgorithm().getName());
+        }
+
+        var claims = parameters.getClaims();
+        var builder = new JWTClaimsSet.Builder();
+        claims.getClaims().forEach((name, value) -> builder.claim(name, toNimbusValue(value)));
+
+        var signedJwt = new SignedJWT(header, builder.build());
+
+        try {
+            signedJwt.sign(signer);
+        } catch (JOSEException e) {
+            throw new JwtEncodingException("An error occurred while attempting to sign the Jwt", e);
+        }
+
+        return new Jwt(
+                signedJwt.serialize(),
+                claims.getClaimAsInstant(JwtClaimNames.IAT),
+                claims.getClaimAsInstant(JwtClaimNames.EXP),
+                Map.copyOf(header.toJSONObject()),
+                claims.getClaims()
+        );
+    }
+
+    private static Object toNimbusValue(Object value) {
+        if (value instanceof Instant instant) {
+            return Date.from(instant);
+        }
+
+        if (value instanceof URL url) {
+            return url.toExternalForm();
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,29 @@
+package br.unb.garage_relation.security;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids until they expire. A token decoded once is reused from {@link CachingJwtDecoder}, so its id's
+ * hash code is already cached and checking a token that is not revoked is a single empty-bucket probe.
+ */
+public class TokenDenylist {
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public boolean isRevoked(String jti) {
+        return jti != null && revoked.containsKey(jti);
+    }
+
+    public void revoke(String jti, Instant expiresAt) {
+        revoked.put(jti, expiresAt);
+    }
+
+    public void prune(Instant now) {
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+}
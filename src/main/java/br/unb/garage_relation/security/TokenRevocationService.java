@@ -0,0 +1,68 @@
+package br.unb.garage_relation.security;
+
+import br.unb.garage_relation.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+
+/**
+ * Persists revoked token ids and mirrors them in a {@link TokenDenylist}. The denylist is loaded at startup and
+ * reloaded on every prune, which also picks up revocations made by other instances.
+ */
+@Service
+public class TokenRevocationService {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist denylist;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.denylist = new TokenDenylist();
+    }
+
+    @PostConstruct
+    public void load() {
+        reload(Instant.now());
+    }
+
+    public boolean isRevoked(Jwt jwt) {
+        return denylist.isRevoked(jwt.getId());
+    }
+
+    /**
+     * @return whether this call revoked the token; false when it was already revoked or carries no id
+     */
+    public boolean revoke(Jwt jwt) {
+        var jti = jwt.getId();
+        var expiresAt = jwt.getExpiresAt();
+
+        if (jti == null || expiresAt == null) {
+            return false;
+        }
+
+        var revoked = revokedTokenRepository.insertIfAbsent(jti, expiresAt) == 1;
+        denylist.revoke(jti, expiresAt);
+
+        return revoked;
+    }
+
+    @Scheduled(
+            fixedDelayString = "${security.jwt.revocation.prune-interval:PT1H}",
+            initialDelayString = "${security.jwt.revocation.prune-interval:PT1H}"
+    )
+    public void prune() {
+        var now = Instant.now();
+        revokedTokenRepository.deleteExpired(now);
+        reload(now);
+    }
+
+    private void reload(Instant now) {
+        for (var revokedToken : revokedTokenRepository.findByExpiresAtAfter(now)) {
+            denylist.revoke(revokedToken.getJti(), revokedToken.getExpiresAt());
+        }
+
+        denylist.prune(now);
+    }
+}
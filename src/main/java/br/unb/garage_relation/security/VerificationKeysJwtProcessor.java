@@ -0,0 +1,124 @@
+package br.unb.garage_relation.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.Ed25519Verifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.BadJOSEException;
+import com.nimbusds.jose.proc.BadJWSException;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.PlainJWT;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.BadJWTException;
+import com.nimbusds.jwt.proc.JWTProcessor;
+
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checks the signature of a token against a fixed set of public keys, looked up by the {@code kid} of the token.
+ * Tokens without a key id, as issued before key ids were added, are tried against every key of their algorithm.
+ * The verifiers are created once, and EdDSA is supported, which the key selector of Nimbus cannot match.
+ * Claims are left to the validators of {@code NimbusJwtDecoder}.
+ */
+public class VerificationKeysJwtProcessor implements JWTProcessor<SecurityContext> {
+    private final Map<String, Verification> verificationsByKeyId = new HashMap<>();
+    private final List<Verification> verifications = new ArrayList<>();
+
+    public VerificationKeysJwtProcessor(List<JWK> verificationKeys) {
+        for (var key : verificationKeys) {
+            var verification = new Verification(JWSAlgorithm.parse(key.getAlgorithm().getName()), verifier(key.toPublicJWK()));
+            verifications.add(verification);
+            verificationsByKeyId.put(key.getKeyID(), verification);
+        }
+    }
+
+    @Override
+    public JWTClaimsSet process(String token, SecurityContext context) throws ParseException, BadJOSEException, JOSEException {
+        return process(JWTParser.parse(token), context);
+    }
+
+    @Override
+    public JWTClaimsSet process(JWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+        if (jwt instanceof SignedJWT signedJwt) {
+            return process(signedJwt, context);
+        }
+
+        throw new BadJWTException("Only signed tokens are accepted");
+    }
+
+    @Override
+    public JWTClaimsSet process(PlainJWT jwt, SecurityContext context) throws BadJOSEException {
+        throw new BadJWTException("Only signed tokens are accepted");
+    }
+
+    @Override
+    public JWTClaimsSet process(SignedJWT jwt, SecurityContext context) throws BadJOSEException, JOSEException {
+        var keyId = jwt.getHeader().getKeyID();
+
+        if (keyId == null) {
+            return verified(jwt, verifications);
+        }
+
+        var verification = verificationsByKeyId.get(keyId);
+
+        if (verification == null) {
+            throw new BadJWSException("Signed JWT rejected: Unknown key id");
+        }
+
+        return verified(jwt, List.of(verification));
+    }
+
+    @Override
+    public JWTClaimsSet process(EncryptedJWT jwt, SecurityContext context) throws BadJOSEException {
+        throw new BadJWTException("Only signed tokens are accepted");
+    }
+
+    private static JWTClaimsSet verified(SignedJWT jwt, List<Verification> candidates) throws BadJOSEException, JOSEException {
+        var algorithm = jwt.getHeader().getAlgorithm();
+
+        for (var candidate : candidates) {
+            if (candidate.algorithm().equals(algorithm) && jwt.verify(candidate.verifier())) {
+                try {
+                    return jwt.getJWTClaimsSet();
+                } catch (ParseException e) {
+                    throw new BadJWTException(e.getMessage(), e);
+                }
+            }
+        }
+
+        throw new BadJWSException("Signed JWT rejected: Invalid signature");
+    }
+
+    private static JWSVerifier verifier(JWK key) {
+        try {
+            if (key instanceof RSAKey rsaKey) {
+                return new RSASSAVerifier(rsaKey);
+            }
+
+            if (key instanceof ECKey ecKey) {
+                return new ECDSAVerifier(ecKey);
+            }
+
+            return new Ed25519Verifier((OctetKeyPair) key);
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("Unsupported verification key " + key.getKeyID(), e);
+        }
+    }
+
+    private record Verification(JWSAlgorithm algorithm, JWSVerifier verifier) {
+    }
+}
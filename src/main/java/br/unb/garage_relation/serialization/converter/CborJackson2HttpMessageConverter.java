@@ -0,0 +1,17 @@
+package br.unb.garage_relation.serialization.converter;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import static br.unb.garage_relation.Constants.APPLICATION_CBOR;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+public class CborJackson2HttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+    public CborJackson2HttpMessageConverter() {
+        super(
+                new CBORMapper().setSerializationInclusion(NON_NULL),
+                MediaType.parseMediaType(APPLICATION_CBOR)
+        );
+    }
+}
@@ -0,0 +1,17 @@
+package br.unb.garage_relation.serialization.converter;
+
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+
+import static br.unb.garage_relation.Constants.APPLICATION_SMILE;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+public class SmileJackson2HttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+    public SmileJackson2HttpMessageConverter() {
+        super(
+                new SmileMapper().setSerializationInclusion(NON_NULL),
+                MediaType.parseMediaType(APPLICATION_SMILE)
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package br.unb.garage_relation.serialization.csv;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class Csv {
+    public static final char SEPARATOR = ',';
+    public static final char QUOTE = '"';
+    public static final String LINE_SEPARATOR = "\r\n";
+    public static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private Csv() {
+    }
+
+    public static String escape(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        var text = value.toString();
+
+        if (text.indexOf(SEPARATOR) < 0 && text.indexOf(QUOTE) < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+
+        return QUOTE + text.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Reads the next record, whose quoted fields may span lines. A missing closing quote ends the field at the end
+     * of the input. Returns null when there is nothing left to read.
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        var c = reader.read();
+
+        if (c < 0) {
+            return null;
+        }
+
+        var fields = new ArrayList<String>();
+        var field = new StringBuilder();
+        var quoted = false;
+        var length = 0;
+
+        for (; ; c = reader.read()) {
+            if (++length > MAX_RECORD_LENGTH) {
+                throw new IllegalArgumentException("CSV record is longer than " + MAX_RECORD_LENGTH + " characters");
+            }
+
+            if (quoted) {
+                if (c < 0) {
+                    quoted = false;
+                } else if (c == QUOTE) {
+                    reader.mark(1);
+
+                    if (reader.read() == QUOTE) {
+                        field.append(QUOTE);
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+
+                    continue;
+                } else {
+                    field.append((char) c);
+                    continue;
+                }
+            }
+
+            if (c < 0 || c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    reader.mark(1);
+
+                    if (reader.read() != '\n') {
+                        reader.reset();
+                    }
+                }
+
+                fields.add(field.toString());
+                return fields;
+            }
+
+            if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == QUOTE && field.isEmpty()) {
+                quoted = true;
+            } else {
+                field.append((char) c);
+            }
+        }
+    }
+}
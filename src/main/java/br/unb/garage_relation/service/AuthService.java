@@ -6,16 +6,20 @@ import br.unb.garage_relation.model.dto.request.RegisterDTO;
 import br.unb.garage_relation.model.dto.response.TokenResponseDTO;
 import br.unb.garage_relation.model.dto.response.UserResponseDTO;
 import br.unb.garage_relation.repository.UserRepository;
+import br.unb.garage_relation.security.AuthenticatedUserCache;
 import br.unb.garage_relation.security.JwtService;
+import br.unb.garage_relation.security.PasswordHasher;
+import br.unb.garage_relation.security.TokenRevocationService;
 import br.unb.garage_relation.service.mapper.UserMapper;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
@@ -25,36 +29,48 @@ import static br.unb.garage_relation.Constants.ACCESS_TOKEN_COOKIE_NAME;
 import static br.unb.garage_relation.Constants.REFRESH_TOKEN_COOKIE_NAME;
 
 @Service
+@Timed("auth.service")
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
     private final UserMapper userMapper;
-
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, UserMapper userMapper) {
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final TokenRevocationService tokenRevocationService;
+
+    public AuthService(
+            UserRepository userRepository,
+            PasswordHasher passwordHasher,
+            JwtService jwtService,
+            UserMapper userMapper,
+            AuthenticatedUserCache authenticatedUserCache,
+            TokenRevocationService tokenRevocationService
+    ) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
         this.userMapper = userMapper;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     public TokenResponseDTO login(LoginDTO credentials, HttpServletResponse response) {
-        var user = userRepository.findByUsername(credentials.username()).orElseThrow(
+        var user = userRepository.findCredentialsByUsername(credentials.username()).orElseThrow(
                 () -> new BadCredentialsException("Invalid username or password")
         );
 
-        if (!passwordEncoder.matches(credentials.password(), user.getPassword())) {
+        if (!passwordHasher.matches(credentials.password(), user.password())) {
             throw new BadCredentialsException("Invalid username or password supplied");
         }
 
         var accessJwt = jwtService.createAccessToken(
-                user.getUsername(),
-                user.getRoles()
+                user.username(),
+                user.roles()
         );
 
         var refreshJwt = jwtService.createRefreshToken(
-                user.getUsername(),
-                user.getRoles()
+                user.username(),
+                user.roles()
         );
 
         response.addCookie(
@@ -96,6 +112,11 @@ public class AuthService {
             throw new BadCredentialsException("Invalid refresh token");
         }
 
+        // refresh tokens are single use: only the request that revokes it gets new tokens, so a replayed copy fails
+        if (!tokenRevocationService.revoke(decodedToken)) {
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
         var accessJwt = jwtService.createAccessToken(
                 decodedToken.getSubject(),
                 decodedToken.getClaim("roles")
@@ -129,6 +150,12 @@ public class AuthService {
     }
 
     public void logout(HttpServletRequest request, HttpServletResponse response) {
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication != null && authentication.getPrincipal() instanceof Jwt accessToken) {
+            tokenRevocationService.revoke(accessToken);
+        }
+
         var cookies = request.getCookies();
 
         if (cookies == null) {
@@ -138,6 +165,10 @@ public class AuthService {
         for (var cookie : cookies) {
             var name = cookie.getName();
 
+            if (name.equals(REFRESH_TOKEN_COOKIE_NAME)) {
+                revokeQuietly(cookie.getValue());
+            }
+
             if (name.equals(ACCESS_TOKEN_COOKIE_NAME) || name.equals(REFRESH_TOKEN_COOKIE_NAME)) {
                 response.addCookie(invalidateCookie(name));
             }
@@ -145,7 +176,7 @@ public class AuthService {
     }
 
     public EntityModel<UserResponseDTO> signup(RegisterDTO registerDTO) {
-        var hashedPassword = passwordEncoder.encode(registerDTO.password());
+        var hashedPassword = passwordHasher.encode(registerDTO.password());
 
         var user = new User(
                 registerDTO.username(),
@@ -169,14 +200,30 @@ public class AuthService {
         var principal = authentication.getPrincipal();
 
         if (principal instanceof Jwt jwt) {
-            return userRepository.findByUsername(jwt.getSubject()).orElseThrow(
-                    () -> new BadCredentialsException("Invalid username or password")
+            var userId = authenticatedUserCache.getUserId(
+                    jwt.getSubject(),
+                    subject -> userRepository.findIdByUsername(subject).orElse(null)
             );
+
+            if (userId == null) {
+                throw new BadCredentialsException("Invalid username or password");
+            }
+
+            // the token is already verified, so a reference is enough to link the user without selecting it
+            return userRepository.getReferenceById(userId);
         }
 
         throw new BadCredentialsException("Invalid username or password");
     }
 
+    // an invalid or already revoked refresh token has nothing left to revoke
+    private void revokeQuietly(String token) {
+        try {
+            tokenRevocationService.revoke(jwtService.decode(token));
+        } catch (JwtException ignored) {
+        }
+    }
+
     private Cookie createCookie(String name, String value, Instant maxAge) {
         var expiresAt = maxAge.getEpochSecond() - Instant.now().getEpochSecond();
 
@@ -0,0 +1,210 @@
+package br.unb.garage_relation.service;
+
+import br.unb.garage_relation.exception.DatabaseOperationException;
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.request.CarBatchUpdateDTO;
+import br.unb.garage_relation.model.dto.request.CarCreateDTO;
+import br.unb.garage_relation.model.dto.request.CarPartialUpdateDTO;
+import br.unb.garage_relation.model.dto.response.CarBatchResultDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import jakarta.validation.Validator;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static br.unb.garage_relation.Constants.MAX_BATCH_SIZE;
+import static org.springframework.http.HttpStatus.*;
+
+/**
+ * Creates, updates and deletes many cars in one transaction. Items that fail validation or
+ * refer to missing cars are reported individually; the remaining ones are written together so
+ * Hibernate can send them as JDBC batches.
+ */
+@Service
+@Transactional
+public class CarBatchService {
+	private final CarRepository carRepository;
+	private final CarMapper carMapper;
+	private final AuthService authService;
+	private final CarStatisticsService carStatisticsService;
+	private final Validator validator;
+
+	public CarBatchService(
+			CarRepository carRepository,
+			CarMapper carMapper,
+			AuthService authService,
+			CarStatisticsService carStatisticsService,
+			Validator validator
+	) {
+		this.carRepository = carRepository;
+		this.carMapper = carMapper;
+		this.authService = authService;
+		this.carStatisticsService = carStatisticsService;
+		this.validator = validator;
+	}
+
+	public List<CarBatchResultDTO> create(List<CarCreateDTO> items) {
+		checkBatchSize(items);
+
+		var results = new CarBatchResultDTO[items.size()];
+		var cars = new ArrayList<Car>(items.size());
+		var indexes = new ArrayList<Integer>(items.size());
+		var owner = authService.getAuthenticatedUser();
+
+		for (int i = 0; i < items.size(); i++) {
+			var item = items.get(i);
+			var error = validate(item);
+
+			if (error != null) {
+				results[i] = failure(i, null, BAD_REQUEST, error);
+				continue;
+			}
+
+			var car = carMapper.toCar(item);
+			car.setOwner(owner);
+			cars.add(car);
+			indexes.add(i);
+		}
+
+		carRepository.saveAll(cars);
+		flush();
+
+		var deltas = new HashMap<CarBucket, Long>();
+		cars.forEach(car -> count(deltas, CarBucket.of(car), 1));
+		carStatisticsService.record(deltas);
+
+		for (int j = 0; j < cars.size(); j++) {
+			results[indexes.get(j)] = success(indexes.get(j), CREATED, cars.get(j));
+		}
+
+		return Arrays.asList(results);
+	}
+
+	public List<CarBatchResultDTO> update(List<CarBatchUpdateDTO> items) {
+		checkBatchSize(items);
+
+		var results = new CarBatchResultDTO[items.size()];
+		var cars = findAllById(items.stream().filter(Objects::nonNull).map(CarBatchUpdateDTO::id).toList());
+		var updated = new LinkedHashMap<Integer, Car>();
+		var deltas = new HashMap<CarBucket, Long>();
+
+		for (int i = 0; i < items.size(); i++) {
+			var item = items.get(i);
+			var error = validate(item);
+
+			if (error != null) {
+				results[i] = failure(i, item == null ? null : item.id(), BAD_REQUEST, error);
+				continue;
+			}
+
+			var car = cars.get(item.id());
+
+			if (car == null) {
+				results[i] = failure(i, item.id(), NOT_FOUND, "Car not found");
+				continue;
+			}
+
+			count(deltas, CarBucket.of(car), -1);
+			carMapper.updateCar(car, new CarPartialUpdateDTO(item.model(), item.brand(), item.year()));
+			count(deltas, CarBucket.of(car), 1);
+			updated.put(i, car);
+		}
+
+		// dirty checking turns the changes into batched UPDATEs on flush
+		flush();
+		carStatisticsService.record(deltas);
+
+		updated.forEach((index, car) -> results[index] = success(index, OK, car));
+
+		return Arrays.asList(results);
+	}
+
+	public List<CarBatchResultDTO> delete(List<Long> ids) {
+		checkBatchSize(ids);
+
+		var results = new CarBatchResultDTO[ids.size()];
+		var existing = findAllById(ids.stream().filter(Objects::nonNull).toList());
+		var existingIds = existing.keySet();
+
+		for (int i = 0; i < ids.size(); i++) {
+			var id = ids.get(i);
+
+			if (id == null) {
+				results[i] = failure(i, null, BAD_REQUEST, "id: must not be null");
+			} else if (existingIds.contains(id)) {
+				results[i] = new CarBatchResultDTO(i, NO_CONTENT.value(), id, null, null);
+			} else {
+				results[i] = failure(i, id, NOT_FOUND, "Car not found");
+			}
+		}
+
+		if (!existingIds.isEmpty()) {
+			carRepository.deleteAllByIdInBatch(existingIds);
+			flush();
+
+			var deltas = new HashMap<CarBucket, Long>();
+			existing.values().forEach(car -> count(deltas, CarBucket.of(car), -1));
+			carStatisticsService.record(deltas);
+		}
+
+		return Arrays.asList(results);
+	}
+
+	private void checkBatchSize(List<?> items) {
+		if (items == null || items.isEmpty()) {
+			throw new IllegalArgumentException("Batch must have at least one item");
+		}
+
+		if (items.size() > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("Batch must have at most " + MAX_BATCH_SIZE + " items");
+		}
+	}
+
+	private Map<Long, Car> findAllById(Collection<Long> ids) {
+		return carRepository.findAllById(ids).stream()
+				.collect(Collectors.toMap(Car::getId, Function.identity()));
+	}
+
+	private void count(Map<CarBucket, Long> deltas, CarBucket bucket, long delta) {
+		deltas.merge(bucket, delta, Long::sum);
+	}
+
+	private String validate(Object item) {
+		if (item == null) {
+			return "item must not be null";
+		}
+
+		var violations = validator.validate(item);
+
+		if (violations.isEmpty()) {
+			return null;
+		}
+
+		return violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", "));
+	}
+
+	private void flush() {
+		try {
+			carRepository.flush();
+		} catch (Exception e) {
+			throw new DatabaseOperationException(e.getMessage());
+		}
+	}
+
+	private CarBatchResultDTO success(int index, HttpStatus status, Car car) {
+		return new CarBatchResultDTO(index, status.value(), car.getId(), carMapper.toCarResponseDTO(car), null);
+	}
+
+	private CarBatchResultDTO failure(int index, Long id, HttpStatus status, String error) {
+		return new CarBatchResultDTO(index, status.value(), id, null, error);
+	}
+}
@@ -0,0 +1,129 @@
+package br.unb.garage_relation.service;
+
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import static br.unb.garage_relation.Constants.APPLICATION_NDJSON;
+import static br.unb.garage_relation.Constants.TEXT_CSV;
+import static br.unb.garage_relation.serialization.csv.Csv.LINE_SEPARATOR;
+import static br.unb.garage_relation.serialization.csv.Csv.SEPARATOR;
+import static br.unb.garage_relation.serialization.csv.Csv.escape;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+public class CarExportService {
+    private static final String CSV_HEADER = "id,model,brand,year";
+
+    private final CarRepository carRepository;
+    private final CarMapper carMapper;
+    private final EntityManager entityManager;
+    private final ObjectWriter jsonWriter;
+
+    public CarExportService(CarRepository carRepository, CarMapper carMapper, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.carRepository = carRepository;
+        this.carMapper = carMapper;
+        this.entityManager = entityManager;
+        this.jsonWriter = objectMapper.writerFor(CarResponseDTO.class);
+    }
+
+    @Transactional(readOnly = true)
+    public void export(Format format, OutputStream outputStream) throws IOException {
+        var writer = new BufferedWriter(new OutputStreamWriter(outputStream, UTF_8));
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write(LINE_SEPARATOR);
+        }
+
+        var first = true;
+
+        try (var cars = carRepository.streamAll()) {
+            for (var iterator = cars.iterator(); iterator.hasNext(); ) {
+                var car = iterator.next();
+
+                write(format, carMapper.toCarResponseDTO(car), writer);
+                entityManager.detach(car);
+
+                if (first) {
+                    writer.flush();
+                    first = false;
+                }
+            }
+        }
+
+        writer.flush();
+    }
+
+    private void write(Format format, CarResponseDTO car, Writer writer) throws IOException {
+        switch (format) {
+            case NDJSON -> {
+                writer.write(jsonWriter.writeValueAsString(car));
+                writer.write('\n');
+            }
+            case CSV -> {
+                writer.write(String.valueOf(car.id()));
+                writer.write(SEPARATOR);
+                writer.write(escape(car.model()));
+                writer.write(SEPARATOR);
+                writer.write(escape(car.brand()));
+                writer.write(SEPARATOR);
+                writer.write(String.valueOf(car.year()));
+                writer.write(LINE_SEPARATOR);
+            }
+        }
+    }
+
+    public enum Format {
+        NDJSON(APPLICATION_NDJSON, "ndjson"),
+        CSV(TEXT_CSV, "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(String mediaType, String extension) {
+            this.mediaType = MediaType.parseMediaType(mediaType);
+            this.extension = extension;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            for (var format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+
+        public static Format of(MediaType mediaType) {
+            for (var format : values()) {
+                if (format.mediaType.isCompatibleWith(mediaType)) {
+                    return format;
+                }
+            }
+
+            throw new IllegalArgumentException("Unsupported format: " + mediaType);
+        }
+    }
+}
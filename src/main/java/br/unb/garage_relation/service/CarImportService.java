@@ -0,0 +1,307 @@
+package br.unb.garage_relation.service;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.request.CarCreateDTO;
+import br.unb.garage_relation.model.dto.response.CarBatchResultDTO;
+import br.unb.garage_relation.model.dto.response.CarImportResultDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.serialization.csv.Csv;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static br.unb.garage_relation.Constants.IMPORT_CHUNK_SIZE;
+import static br.unb.garage_relation.Constants.MAX_IMPORT_ERRORS;
+import static br.unb.garage_relation.serialization.csv.Csv.MAX_RECORD_LENGTH;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+/**
+ * Imports cars from a CSV or NDJSON stream, read one row at a time and saved in transactions of
+ * {@link br.unb.garage_relation.Constants#IMPORT_CHUNK_SIZE} rows, so memory does not grow with the
+ * input. Rows that fail are reported by index, up to {@link br.unb.garage_relation.Constants#MAX_IMPORT_ERRORS};
+ * the others are still imported.
+ */
+@Service
+public class CarImportService {
+	private static final List<String> CSV_COLUMNS = List.of("model", "brand", "year");
+
+	private final CarRepository carRepository;
+	private final CarMapper carMapper;
+	private final AuthService authService;
+	private final CarStatisticsService carStatisticsService;
+	private final Validator validator;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectReader jsonReader;
+
+	public CarImportService(
+			CarRepository carRepository,
+			CarMapper carMapper,
+			AuthService authService,
+			CarStatisticsService carStatisticsService,
+			Validator validator,
+			EntityManager entityManager,
+			PlatformTransactionManager transactionManager,
+			ObjectMapper objectMapper
+	) {
+		this.carRepository = carRepository;
+		this.carMapper = carMapper;
+		this.authService = authService;
+		this.carStatisticsService = carStatisticsService;
+		this.validator = validator;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.jsonReader = objectMapper.readerFor(CarCreateDTO.class);
+	}
+
+	public CarImportResultDTO importCars(CarExportService.Format format, InputStream inputStream) throws IOException {
+		var reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+		var run = new ImportRun(authService.getAuthenticatedUser());
+
+		switch (format) {
+			case CSV -> readCsv(reader, run);
+			case NDJSON -> readNdjson(reader, run);
+		}
+
+		run.save();
+
+		return run.result();
+	}
+
+	private void readCsv(BufferedReader reader, ImportRun run) throws IOException {
+		var header = Csv.readRecord(reader);
+
+		if (header == null) {
+			throw new IllegalArgumentException("CSV must start with a header row");
+		}
+
+		var columns = header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList();
+		var positions = new HashMap<String, Integer>();
+
+		for (var column : CSV_COLUMNS) {
+			var position = columns.indexOf(column);
+
+			if (position < 0) {
+				throw new IllegalArgumentException("CSV header must have the columns " + String.join(", ", CSV_COLUMNS));
+			}
+
+			positions.put(column, position);
+		}
+
+		for (var index = 0; ; index++) {
+			var record = Csv.readRecord(reader);
+
+			if (record == null) {
+				return;
+			}
+
+			if (record.size() == 1 && record.get(0).isBlank()) {
+				continue;
+			}
+
+			if (record.size() != columns.size()) {
+				run.fail(index, "expected " + columns.size() + " fields but found " + record.size());
+				continue;
+			}
+
+			var year = record.get(positions.get("year")).trim();
+
+			try {
+				run.add(index, new CarCreateDTO(
+						record.get(positions.get("model")),
+						record.get(positions.get("brand")),
+						year.isEmpty() ? null : Integer.valueOf(year),
+						run.ownerId(),
+						null
+				));
+			} catch (NumberFormatException e) {
+				run.fail(index, "year: must be a number");
+			}
+		}
+	}
+
+	private void readNdjson(BufferedReader reader, ImportRun run) throws IOException {
+		var index = 0;
+
+		for (var line = readLine(reader); line != null; line = readLine(reader), index++) {
+			if (line.tooLong()) {
+				run.fail(index, "line is longer than " + MAX_RECORD_LENGTH + " characters");
+				continue;
+			}
+
+			if (line.text().isBlank()) {
+				continue;
+			}
+
+			CarCreateDTO item;
+
+			try {
+				item = jsonReader.readValue(line.text());
+			} catch (JsonProcessingException e) {
+				run.fail(index, "invalid JSON: " + e.getOriginalMessage());
+				continue;
+			}
+
+			run.add(index, item == null ? null : new CarCreateDTO(item.model(), item.brand(), item.year(), run.ownerId(), null));
+		}
+	}
+
+	/**
+	 * Like {@link BufferedReader#readLine()}, but skips the rest of a line longer than
+	 * {@link Csv#MAX_RECORD_LENGTH} and marks it as too long, so one line cannot take the whole body.
+	 */
+	private static Line readLine(BufferedReader reader) throws IOException {
+		var c = reader.read();
+
+		if (c < 0) {
+			return null;
+		}
+
+		var line = new StringBuilder();
+		var tooLong = false;
+
+		for (; c >= 0 && c != '\n'; c = reader.read()) {
+			if (line.length() == MAX_RECORD_LENGTH) {
+				tooLong = true;
+			} else {
+				line.append((char) c);
+			}
+		}
+
+		if (tooLong) {
+			return Line.TOO_LONG;
+		}
+
+		var end = line.length();
+		return new Line(end > 0 && line.charAt(end - 1) == '\r' ? line.substring(0, end - 1) : line.toString(), false);
+	}
+
+	private String validate(CarCreateDTO item) {
+		if (item == null) {
+			return "item must not be null";
+		}
+
+		var violations = validator.validate(item);
+
+		if (violations.isEmpty()) {
+			return null;
+		}
+
+		return violations.stream()
+				.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+				.sorted()
+				.collect(Collectors.joining(", "));
+	}
+
+	private record Line(String text, boolean tooLong) {
+		static final Line TOO_LONG = new Line("", true);
+	}
+
+	private class ImportRun {
+		private final User owner;
+		private List<Car> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+		private List<Integer> chunkIndexes = new ArrayList<>(IMPORT_CHUNK_SIZE);
+		private final List<CarBatchResultDTO> errors = new ArrayList<>();
+		private long rows;
+		private long imported;
+		private long failed;
+
+		ImportRun(User owner) {
+			this.owner = owner;
+		}
+
+		Long ownerId() {
+			return owner.getId();
+		}
+
+		void add(int index, CarCreateDTO item) {
+			var error = validate(item);
+
+			if (error != null) {
+				fail(index, error);
+				return;
+			}
+
+			rows++;
+
+			var car = carMapper.toCar(item);
+			car.setOwner(owner);
+			chunk.add(car);
+			chunkIndexes.add(index);
+
+			if (chunk.size() == IMPORT_CHUNK_SIZE) {
+				save();
+			}
+		}
+
+		void fail(int index, String error) {
+			rows++;
+			report(index, BAD_REQUEST, error);
+		}
+
+		void save() {
+			if (chunk.isEmpty()) {
+				return;
+			}
+
+			var cars = chunk;
+			var indexes = chunkIndexes;
+			chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+			chunkIndexes = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					carRepository.saveAll(cars);
+					carRepository.flush();
+
+					var deltas = new HashMap<CarBucket, Long>();
+					cars.forEach(car -> deltas.merge(CarBucket.of(car), 1L, Long::sum));
+					carStatisticsService.record(deltas);
+
+					// the saved cars are not needed anymore, so the persistence context does not grow with the input
+					entityManager.clear();
+				});
+				imported += cars.size();
+			} catch (DataAccessException | TransactionException e) {
+				var error = "could not be saved: " + e.getMostSpecificCause().getMessage();
+				indexes.forEach(index -> report(index, INTERNAL_SERVER_ERROR, error));
+			}
+		}
+
+		private void report(int index, HttpStatus status, String error) {
+			failed++;
+
+			if (errors.size() < MAX_IMPORT_ERRORS) {
+				errors.add(new CarBatchResultDTO(index, status.value(), null, null, error));
+			}
+		}
+
+		CarImportResultDTO result() {
+			return new CarImportResultDTO(rows, imported, failed, errors);
+		}
+	}
+}
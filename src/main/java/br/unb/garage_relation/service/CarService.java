@@ -1,14 +1,21 @@
 package br.unb.garage_relation.service;
 
 import br.unb.garage_relation.exception.DatabaseOperationException;
+import br.unb.garage_relation.exception.PreconditionFailedException;
 import br.unb.garage_relation.exception.RegisterNotFoundException;
 import br.unb.garage_relation.model.Car;
 import br.unb.garage_relation.model.dto.request.CarCreateDTO;
 import br.unb.garage_relation.model.dto.request.CarPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.CarUpdateDTO;
 import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.model.dto.response.CarStatisticsResponseDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
 import br.unb.garage_relation.repository.CarRepository;
 import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.pagination.Cursor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.stereotype.Service;
@@ -16,24 +23,55 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
+@Timed("car.service")
 public class CarService {
+	private static final int MIN_SEARCH_QUERY_LENGTH = 2;
+
 	private final CarRepository carRepository;
 	private final AuthService authService;
 	private final CarMapper carMapper;
+	private final CarStatisticsService carStatisticsService;
 
-	public CarService(CarRepository carRepository, CarMapper carMapper, AuthService authService) {
+	public CarService(
+			CarRepository carRepository,
+			CarMapper carMapper,
+			AuthService authService,
+			CarStatisticsService carStatisticsService
+	) {
 		this.carRepository = carRepository;
 		this.carMapper = carMapper;
 		this.authService = authService;
+		this.carStatisticsService = carStatisticsService;
+	}
+
+	@Transactional(readOnly = true)
+	public CollectionModel<EntityModel<CarResponseDTO>> findAll(String cursor, Integer size) {
+		var cars = carRepository.findResponsesAfter(
+				Cursor.decode(cursor),
+				PageRequest.ofSize(Cursor.pageSize(size))
+		);
+		return carMapper.toCollectionModel(cars, cursor);
 	}
 
-	public CollectionModel<EntityModel<CarResponseDTO>> findAll() {
-		var cars = carRepository.findAll();
-		return carMapper.toCollectionModel(cars);
+	@Transactional(readOnly = true)
+	public CollectionModel<EntityModel<CarResponseDTO>> search(String query, String cursor, Integer size) {
+		if (query == null || query.strip().length() < MIN_SEARCH_QUERY_LENGTH) {
+			throw new IllegalArgumentException(
+					"Search query must have at least " + MIN_SEARCH_QUERY_LENGTH + " characters"
+			);
+		}
+
+		var cars = carRepository.searchByBrandOrModel(
+				toPhrase(query),
+				Cursor.decode(cursor),
+				PageRequest.ofSize(Cursor.pageSize(size))
+		);
+		return carMapper.toSearchCollectionModel(cars.map(carMapper::toCarResponseDTO), query, cursor);
 	}
 
+	@Transactional(readOnly = true)
 	public EntityModel<CarResponseDTO> findById(Long id) throws RegisterNotFoundException {
-		var car = carRepository.findById(id);
+		var car = carRepository.findResponseById(id);
 
 		if (car.isEmpty()) {
 			throw new RegisterNotFoundException();
@@ -42,6 +80,11 @@ public class CarService {
 		return carMapper.toModel(car.get());
 	}
 
+	@Transactional(readOnly = true)
+	public CarStatisticsResponseDTO statistics(String groupBy, Long ownerId) {
+		return carStatisticsService.find(groupBy, ownerId);
+	}
+
 	public EntityModel<CarResponseDTO> create(CarCreateDTO carCreateDTO) {
 		var car = carMapper.toCar(carCreateDTO);
 		var owner = authService.getAuthenticatedUser();
@@ -50,6 +93,7 @@ public class CarService {
 
 		try {
 			var savedCar = carRepository.save(car);
+			carStatisticsService.added(savedCar);
 			return carMapper.toModel(savedCar);
 		} catch (Exception e) {
 			throw new DatabaseOperationException(e.getMessage());
@@ -60,30 +104,51 @@ public class CarService {
 		var car = carRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
 		try {
 			carRepository.delete(car);
+			carStatisticsService.removed(car);
 		} catch (Exception e) {
 			throw new DatabaseOperationException(e.getMessage());
 		}
 	}
 
-	public EntityModel<CarResponseDTO> update(Long id, CarUpdateDTO carUpdateDTO) throws RegisterNotFoundException, DatabaseOperationException {
+	public EntityModel<CarResponseDTO> update(Long id, CarUpdateDTO carUpdateDTO, Long expectedVersion) throws RegisterNotFoundException, DatabaseOperationException {
 		var carToUpdate = carRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
+		checkVersion(carToUpdate, expectedVersion);
+		var before = CarBucket.of(carToUpdate);
 		var carWithNewInfo = carMapper.updateCar(carToUpdate, carUpdateDTO);
-		try {
-			var updatedCar = carRepository.save(carWithNewInfo);
-			return carMapper.toModel(updatedCar);
-		} catch (Exception e) {
-			throw new DatabaseOperationException(e.getMessage());
-		}
+		return saveAndFlush(before, carWithNewInfo);
 	}
 	
-	public EntityModel<CarResponseDTO> partialUpdate(Long id, CarPartialUpdateDTO carPartialUpdateDTO) throws DatabaseOperationException, RegisterNotFoundException {
+	public EntityModel<CarResponseDTO> partialUpdate(Long id, CarPartialUpdateDTO carPartialUpdateDTO, Long expectedVersion) throws DatabaseOperationException, RegisterNotFoundException {
 		Car carToUpdate = carRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
+		checkVersion(carToUpdate, expectedVersion);
+		var before = CarBucket.of(carToUpdate);
 		var carWithNewInfo = carMapper.updateCar(carToUpdate, carPartialUpdateDTO);
+		return saveAndFlush(before, carWithNewInfo);
+	}
+
+	// a null expected version means the client sent no If-Match and accepts overwriting
+	private void checkVersion(Car car, Long expectedVersion) {
+		if (expectedVersion != null && !expectedVersion.equals(car.getVersion())) {
+			throw new PreconditionFailedException();
+		}
+	}
+
+	// flushing here bumps the version before it is mapped, so the response carries the new ETag
+	private EntityModel<CarResponseDTO> saveAndFlush(CarBucket before, Car car) {
 		try {
-			var updatedCar = carRepository.save(carWithNewInfo);
+			var updatedCar = carRepository.save(car);
+			carRepository.flush();
+			carStatisticsService.changed(before, updatedCar);
 			return carMapper.toModel(updatedCar);
+		} catch (OptimisticLockingFailureException e) {
+			throw new PreconditionFailedException();
 		} catch (Exception e) {
 			throw new DatabaseOperationException(e.getMessage());
 		}
 	}
+
+	// a quoted phrase is matched as consecutive ngrams, i.e. a substring match, and disables boolean operators
+	private String toPhrase(String query) {
+		return '"' + query.strip().replace("\"", "") + '"';
+	}
 }
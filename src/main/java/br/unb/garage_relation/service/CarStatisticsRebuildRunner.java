@@ -0,0 +1,34 @@
+package br.unb.garage_relation.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rebuilds the car statistics from scratch when the application starts with {@code --rebuild-car-statistics}.
+ */
+@Component
+public class CarStatisticsRebuildRunner implements ApplicationRunner {
+    static final String OPTION = "rebuild-car-statistics";
+
+    private static final Logger logger = LoggerFactory.getLogger(CarStatisticsRebuildRunner.class);
+
+    private final CarStatisticsService carStatisticsService;
+
+    public CarStatisticsRebuildRunner(CarStatisticsService carStatisticsService) {
+        this.carStatisticsService = carStatisticsService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+
+        var start = System.nanoTime();
+        carStatisticsService.rebuild();
+        logger.info("Rebuilt car statistics in {} ms", (System.nanoTime() - start) / 1_000_000);
+    }
+}
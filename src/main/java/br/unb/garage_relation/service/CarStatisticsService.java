@@ -0,0 +1,103 @@
+package br.unb.garage_relation.service;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO;
+import br.unb.garage_relation.model.dto.response.CarStatisticsResponseDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarStatisticsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static br.unb.garage_relation.model.CarStatistics.GLOBAL_OWNER_ID;
+
+/**
+ * Keeps the car_statistics counts in step with car writes, inside the caller's transaction, so reading a
+ * distribution costs one row per bucket instead of one per car.
+ */
+@Service
+@Transactional
+public class CarStatisticsService {
+	/*
+	 * Every writer updates all of its owner buckets first and then the global ones, each pass in this order, so the
+	 * rows of existing buckets are always locked in one total order and writers sharing buckets wait for each other
+	 * instead of deadlocking. Locking an owner row and its global row together would put the global row in the
+	 * middle of a multi-owner batch and let two writers lock the same rows in opposite orders.
+	 */
+	private static final Comparator<CarBucket> LOCK_ORDER = Comparator
+			.comparing(CarBucket::brand)
+			.thenComparing(CarBucket::model)
+			.thenComparing(CarBucket::year)
+			.thenComparing(CarBucket::ownerId);
+
+	private final CarStatisticsRepository carStatisticsRepository;
+
+	public CarStatisticsService(CarStatisticsRepository carStatisticsRepository) {
+		this.carStatisticsRepository = carStatisticsRepository;
+	}
+
+	public void added(Car car) {
+		record(Map.of(CarBucket.of(car), 1L));
+	}
+
+	public void removed(Car car) {
+		record(Map.of(CarBucket.of(car), -1L));
+	}
+
+	public void changed(CarBucket before, Car car) {
+		var after = CarBucket.of(car);
+
+		if (!before.equals(after)) {
+			record(Map.of(before, -1L, after, 1L));
+		}
+	}
+
+	public void record(Map<CarBucket, Long> deltas) {
+		var globalDeltas = new HashMap<CarBucket, Long>();
+		deltas.forEach((bucket, delta) -> globalDeltas.merge(
+				new CarBucket(GLOBAL_OWNER_ID, bucket.brand(), bucket.model(), bucket.year()),
+				delta,
+				Long::sum
+		));
+
+		write(deltas);
+		write(globalDeltas);
+	}
+
+	private void write(Map<CarBucket, Long> deltas) {
+		deltas.entrySet().stream()
+				.filter(delta -> delta.getValue() != 0)
+				.sorted(Map.Entry.comparingByKey(LOCK_ORDER))
+				.forEach(delta -> {
+					var bucket = delta.getKey();
+					carStatisticsRepository.add(bucket.ownerId(), bucket.brand(), bucket.model(), bucket.year(), delta.getValue());
+				});
+	}
+
+	@Transactional(readOnly = true)
+	public CarStatisticsResponseDTO find(String groupBy, Long ownerId) {
+		var dimension = groupBy == null ? "brand" : groupBy.strip().toLowerCase(Locale.ROOT);
+		var scope = ownerId == null ? GLOBAL_OWNER_ID : ownerId;
+
+		var buckets = switch (dimension) {
+			case "brand" -> carStatisticsRepository.countByBrand(scope);
+			case "model" -> carStatisticsRepository.countByModel(scope);
+			case "year" -> carStatisticsRepository.countByYear(scope);
+			default -> throw new IllegalArgumentException("groupBy must be one of brand, model or year");
+		};
+		var total = buckets.stream().mapToLong(CarStatisticsBucketDTO::count).sum();
+
+		return new CarStatisticsResponseDTO(dimension, ownerId, total, buckets);
+	}
+
+	// recomputes every bucket from the car table; INSERT ... SELECT locks the rows it reads, so writers wait for it
+	public void rebuild() {
+		carStatisticsRepository.deleteAllInBatch();
+		carStatisticsRepository.insertOwnerCounts();
+		carStatisticsRepository.insertGlobalCounts();
+	}
+}
@@ -1,66 +1,125 @@
 package br.unb.garage_relation.service;
 
 import br.unb.garage_relation.exception.DatabaseOperationException;
+import br.unb.garage_relation.exception.PreconditionFailedException;
 import br.unb.garage_relation.exception.RegisterNotFoundException;
 import br.unb.garage_relation.model.User;
 import br.unb.garage_relation.model.dto.request.UserPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.UserUpdateDTO;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
 import br.unb.garage_relation.model.dto.response.UserResponseDTO;
+import br.unb.garage_relation.repository.CarRepository;
 import br.unb.garage_relation.repository.UserRepository;
+import br.unb.garage_relation.security.AuthenticatedUserCache;
+import br.unb.garage_relation.service.mapper.CarMapper;
 import br.unb.garage_relation.service.mapper.UserMapper;
+import br.unb.garage_relation.service.pagination.Cursor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Transactional
+@Timed("user.service")
 public class UserService {
     private final UserRepository userRepository;
+    private final CarRepository carRepository;
     private final UserMapper userMapper;
+    private final CarMapper carMapper;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(
+            UserRepository userRepository,
+            CarRepository carRepository,
+            UserMapper userMapper,
+            CarMapper carMapper,
+            AuthenticatedUserCache authenticatedUserCache
+    ) {
         this.userRepository = userRepository;
+        this.carRepository = carRepository;
         this.userMapper = userMapper;
+        this.carMapper = carMapper;
+        this.authenticatedUserCache = authenticatedUserCache;
     }
 
-    public CollectionModel<EntityModel<UserResponseDTO>> list() {
-        var users = userRepository.findAll();
-        return userMapper.toCollectionModel(users);
+    @Transactional(readOnly = true)
+    public CollectionModel<EntityModel<UserResponseDTO>> list(String cursor, Integer size) {
+        var users = userRepository.findByIdGreaterThanOrderByIdAsc(
+                Cursor.decode(cursor),
+                PageRequest.ofSize(Cursor.pageSize(size))
+        );
+        return userMapper.toCollectionModel(users, cursor);
     }
 
+    @Transactional(readOnly = true)
     public EntityModel<UserResponseDTO> findById(Long id) {
         var user = userRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
         return userMapper.toModel(user);
     }
 
-    public EntityModel<UserResponseDTO> update(Long id, UserUpdateDTO userUpdateDTO) {
+    // pages through car rows directly so the User.cars collection is never loaded
+    @Transactional(readOnly = true)
+    public CollectionModel<EntityModel<CarResponseDTO>> findCars(Long id, String cursor, Integer size) {
+        if (!userRepository.existsById(id)) {
+            throw new RegisterNotFoundException();
+        }
+
+        var cars = carRepository.findResponsesByOwnerAfter(
+                id,
+                Cursor.decode(cursor),
+                PageRequest.ofSize(Cursor.pageSize(size))
+        );
+        return carMapper.toOwnerCollectionModel(cars, id, cursor);
+    }
+
+    public EntityModel<UserResponseDTO> update(Long id, UserUpdateDTO userUpdateDTO, Long expectedVersion) {
         var user = userRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
+        checkVersion(user, expectedVersion);
+        authenticatedUserCache.evictAfterCommit(user.getUsername());
 
         var userWithNewInfo = userMapper.updateUser(user, userUpdateDTO);
 
-        try {
-            var updatedUser = userRepository.save(userWithNewInfo);
-            return userMapper.toModel(updatedUser);
-        } catch (Exception e) {
-            throw new DatabaseOperationException(e.getMessage());
-        }
+        return saveAndFlush(userWithNewInfo);
     }
 
-    public EntityModel<UserResponseDTO> partialUpdate(Long id, UserPartialUpdateDTO userPartialUpdateDTO) {
+    public EntityModel<UserResponseDTO> partialUpdate(Long id, UserPartialUpdateDTO userPartialUpdateDTO, Long expectedVersion) {
         User user = userRepository.findById(id).orElseThrow(RegisterNotFoundException::new);
+        checkVersion(user, expectedVersion);
+        authenticatedUserCache.evictAfterCommit(user.getUsername());
 
         var userWithNewInfo = userMapper.updateUser(user, userPartialUpdateDTO);
 
+        return saveAndFlush(userWithNewInfo);
+    }
+
+    public void delete(Long id) {
+        // deleteById loads the user anyway, so this lookup is served from the persistence context
+        userRepository.findById(id).ifPresent(user -> authenticatedUserCache.evictAfterCommit(user.getUsername()));
+
         try {
-            var updatedUser = userRepository.save(userWithNewInfo);
-            return userMapper.toModel(updatedUser);
+            userRepository.deleteById(id);
         } catch (Exception e) {
             throw new DatabaseOperationException(e.getMessage());
         }
     }
 
-    public void delete(Long id) {
+    private void checkVersion(User user, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(user.getVersion())) {
+            throw new PreconditionFailedException();
+        }
+    }
+
+    private EntityModel<UserResponseDTO> saveAndFlush(User user) {
         try {
-            userRepository.deleteById(id);
+            var updatedUser = userRepository.save(user);
+            userRepository.flush();
+            return userMapper.toModel(updatedUser);
+        } catch (OptimisticLockingFailureException e) {
+            throw new PreconditionFailedException();
         } catch (Exception e) {
             throw new DatabaseOperationException(e.getMessage());
         }
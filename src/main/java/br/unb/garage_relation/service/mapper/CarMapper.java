@@ -1,29 +1,42 @@
 package br.unb.garage_relation.service.mapper;
 
 import br.unb.garage_relation.controller.CarController;
+import br.unb.garage_relation.controller.UserController;
 import br.unb.garage_relation.model.Car;
 import br.unb.garage_relation.model.dto.request.CarCreateDTO;
 import br.unb.garage_relation.model.dto.request.CarPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.CarUpdateDTO;
 import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.service.pagination.Cursor;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.function.Function;
 
+import static org.springframework.hateoas.IanaLinkRelations.NEXT;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
 public class CarMapper implements RepresentationModelAssembler<Car, EntityModel<CarResponseDTO>> {
+	private final ControllerLinks controllerLinks;
+
+	public CarMapper(ControllerLinks controllerLinks) {
+		this.controllerLinks = controllerLinks;
+	}
+
 	public CarResponseDTO toCarResponseDTO(Car car) {
 		return new CarResponseDTO(
 				car.getId(),
 				car.getModel(),
 				car.getBrand(),
-				car.getYear()
+				car.getYear(),
+				car.getVersion()
 		);
 	}
 
@@ -61,11 +74,13 @@ public class CarMapper implements RepresentationModelAssembler<Car, EntityModel<
 	}
 
 	public EntityModel<CarResponseDTO> toModel(Car entity) {
-		var dto = toCarResponseDTO(entity);
+		return toModel(toCarResponseDTO(entity));
+	}
 
+	public EntityModel<CarResponseDTO> toModel(CarResponseDTO dto) {
 		var model = EntityModel.of(dto);
 
-		model.add(linkTo(methodOn(CarController.class).findById(dto.id())).withSelfRel());
+		model.add(controllerLinks.self(CarController.class, dto.id()));
 
 		return model;
 	}
@@ -77,8 +92,44 @@ public class CarMapper implements RepresentationModelAssembler<Car, EntityModel<
 			models.add(toModel(entity));
 		}
 
-		var selfLink = linkTo(methodOn(CarController.class).findAll()).withSelfRel();
+		var selfLink = linkTo(methodOn(CarController.class).findAll(null, null)).withSelfRel();
 
 		return CollectionModel.of(models, selfLink);
 	}
+
+	public CollectionModel<EntityModel<CarResponseDTO>> toCollectionModel(Slice<CarResponseDTO> page, String cursor) {
+		var size = page.getSize();
+		return toCollectionModel(page, cursor, pageCursor -> linkTo(methodOn(CarController.class).findAll(pageCursor, size)));
+	}
+
+	public CollectionModel<EntityModel<CarResponseDTO>> toSearchCollectionModel(Slice<CarResponseDTO> page, String query, String cursor) {
+		var size = page.getSize();
+		return toCollectionModel(page, cursor, pageCursor -> linkTo(methodOn(CarController.class).search(query, pageCursor, size)));
+	}
+
+	public CollectionModel<EntityModel<CarResponseDTO>> toOwnerCollectionModel(Slice<CarResponseDTO> page, Long ownerId, String cursor) {
+		var size = page.getSize();
+		return toCollectionModel(page, cursor, pageCursor -> linkTo(methodOn(UserController.class).findCars(ownerId, pageCursor, size)));
+	}
+
+	private CollectionModel<EntityModel<CarResponseDTO>> toCollectionModel(
+			Slice<CarResponseDTO> page,
+			String cursor,
+			Function<String, WebMvcLinkBuilder> pageLink
+	) {
+		var models = new ArrayList<EntityModel<CarResponseDTO>>(page.getNumberOfElements());
+
+		for (var dto : page) {
+			models.add(toModel(dto));
+		}
+
+		var collectionModel = CollectionModel.of(models, pageLink.apply(cursor).withSelfRel());
+
+		if (page.hasNext()) {
+			var nextCursor = Cursor.encode(page.getContent().get(page.getNumberOfElements() - 1).id());
+			collectionModel.add(pageLink.apply(nextCursor).withRel(NEXT));
+		}
+
+		return collectionModel;
+	}
 }
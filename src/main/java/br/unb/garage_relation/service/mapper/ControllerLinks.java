@@ -0,0 +1,64 @@
+package br.unb.garage_relation.service.mapper;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.springframework.hateoas.IanaLinkRelations.SELF;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+/**
+ * Builds the per-item links that {@code linkTo(methodOn(controller).findById(id))} would, without recording a
+ * proxy invocation per item: the controller mapping is resolved once per controller and the base URI once per request.
+ */
+@Component
+public class ControllerLinks {
+    private static final String BASE_URI_ATTRIBUTE = ControllerLinks.class.getName() + ".BASE_URI";
+
+    private final Map<Class<?>, String> controllerPaths = new ConcurrentHashMap<>();
+
+    public Link self(Class<?> controller, Object id) {
+        return Link.of(baseUri() + controllerPath(controller) + "/" + id, SELF);
+    }
+
+    private String controllerPath(Class<?> controller) {
+        return controllerPaths.computeIfAbsent(controller, type -> {
+            var mapping = AnnotatedElementUtils.findMergedAnnotation(type, RequestMapping.class);
+
+            if (mapping == null || mapping.path().length == 0) {
+                return "";
+            }
+
+            var path = mapping.path()[0];
+
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+
+            return path.startsWith("/") ? path : "/" + path;
+        });
+    }
+
+    private String baseUri() {
+        var attributes = RequestContextHolder.getRequestAttributes();
+
+        if (attributes == null) {
+            return "";
+        }
+
+        var baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, SCOPE_REQUEST);
+
+        if (baseUri == null) {
+            baseUri = ServletUriComponentsBuilder.fromCurrentServletMapping().build().toUriString();
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, SCOPE_REQUEST);
+        }
+
+        return baseUri;
+    }
+}
@@ -5,6 +5,8 @@ import br.unb.garage_relation.model.User;
 import br.unb.garage_relation.model.dto.request.UserPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.UserUpdateDTO;
 import br.unb.garage_relation.model.dto.response.UserResponseDTO;
+import br.unb.garage_relation.service.pagination.Cursor;
+import org.springframework.data.domain.Slice;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.server.RepresentationModelAssembler;
@@ -13,15 +15,18 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 
+import static org.springframework.hateoas.IanaLinkRelations.NEXT;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
 import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 
 @Service
 public class UserMapper implements RepresentationModelAssembler<User, EntityModel<UserResponseDTO>> {
     private final PasswordEncoder passwordEncoder;
+    private final ControllerLinks controllerLinks;
 
-    public UserMapper(PasswordEncoder passwordEncoder) {
+    public UserMapper(PasswordEncoder passwordEncoder, ControllerLinks controllerLinks) {
         this.passwordEncoder = passwordEncoder;
+        this.controllerLinks = controllerLinks;
     }
 
     public UserResponseDTO toUserResponseDTO(User user) {
@@ -29,7 +34,8 @@ public class UserMapper implements RepresentationModelAssembler<User, EntityMode
                 user.getId(),
                 user.getUsername(),
                 user.getEmail(),
-                user.getFullName()
+                user.getFullName(),
+                user.getVersion()
         );
     }
 
@@ -67,7 +73,7 @@ public class UserMapper implements RepresentationModelAssembler<User, EntityMode
 
         var model = EntityModel.of(dto);
 
-        model.add(linkTo(methodOn(UserController.class).findById(dto.id())).withSelfRel());
+        model.add(controllerLinks.self(UserController.class, dto.id()));
 
         return model;
     }
@@ -79,8 +85,29 @@ public class UserMapper implements RepresentationModelAssembler<User, EntityMode
             models.add(toModel(entity));
         }
 
-        var selfLink = linkTo(methodOn(UserController.class).list()).withSelfRel();
+        var selfLink = linkTo(methodOn(UserController.class).list(null, null)).withSelfRel();
 
         return CollectionModel.of(models, selfLink);
     }
+
+    public CollectionModel<EntityModel<UserResponseDTO>> toCollectionModel(Slice<? extends User> page, String cursor) {
+        var models = new ArrayList<EntityModel<UserResponseDTO>>(page.getNumberOfElements());
+
+        for (var entity : page) {
+            models.add(toModel(entity));
+        }
+
+        var size = page.getSize();
+        var collectionModel = CollectionModel.of(
+                models,
+                linkTo(methodOn(UserController.class).list(cursor, size)).withSelfRel()
+        );
+
+        if (page.hasNext()) {
+            var nextCursor = Cursor.encode(page.getContent().get(page.getNumberOfElements() - 1).getId());
+            collectionModel.add(linkTo(methodOn(UserController.class).list(nextCursor, size)).withRel(NEXT));
+        }
+
+        return collectionModel;
+    }
 }
@@ -0,0 +1,51 @@
+package br.unb.garage_relation.service.pagination;
+
+import br.unb.garage_relation.exception.InvalidCursorException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+import static br.unb.garage_relation.Constants.DEFAULT_PAGE_SIZE;
+import static br.unb.garage_relation.Constants.MAX_PAGE_SIZE;
+
+/**
+ * Opaque keyset cursor: the id of the last row of the previous page, so the next page is a
+ * {@code WHERE id > :cursor ORDER BY id} seek on the primary key instead of an offset scan.
+ */
+public final class Cursor {
+    private static final long FIRST_PAGE = 0L;
+
+    private Cursor() {
+    }
+
+    public static String encode(Long lastId) {
+        var bytes = ByteBuffer.allocate(Long.BYTES).putLong(lastId).array();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST_PAGE;
+        }
+
+        try {
+            var bytes = Base64.getUrlDecoder().decode(cursor);
+
+            if (bytes.length != Long.BYTES) {
+                throw new InvalidCursorException();
+            }
+
+            return ByteBuffer.wrap(bytes).getLong();
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public static int pageSize(Integer requested) {
+        if (requested == null || requested < 1) {
+            return DEFAULT_PAGE_SIZE;
+        }
+
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+}
@@ -0,0 +1,8 @@
+CREATE TABLE revoked_token
+(
+    jti        VARCHAR(36) NOT NULL,
+    expires_at DATETIME(6) NOT NULL,
+
+    CONSTRAINT REVOKED_TOKEN_PK PRIMARY KEY (jti),
+    INDEX REVOKED_TOKEN_EXPIRES_AT_IDX (expires_at)
+) ENGINE = InnoDB;
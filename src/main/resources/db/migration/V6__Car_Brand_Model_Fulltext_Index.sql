@@ -0,0 +1,2 @@
+ALTER TABLE car
+    ADD FULLTEXT INDEX CAR_BRAND_MODEL_FT (brand, model) WITH PARSER ngram;
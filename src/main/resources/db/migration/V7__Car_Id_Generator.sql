@@ -0,0 +1,17 @@
+CREATE TABLE id_generator
+(
+    name       VARCHAR(50) NOT NULL,
+    next_value BIGINT      NOT NULL,
+
+    CONSTRAINT ID_GENERATOR_PK PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+-- Hibernate's pooled optimizer reads next_value as the top of a block of 50 ids,
+-- so the first block handed out starts right after the current highest car id
+INSERT INTO id_generator (name, next_value)
+SELECT 'car', COALESCE(MAX(id), 0) + 50
+FROM car;
+
+-- ids now only come from id_generator; a second AUTO_INCREMENT sequence could hand out ids inside a reserved block
+ALTER TABLE car
+    MODIFY id BIGINT NOT NULL;
@@ -0,0 +1,5 @@
+ALTER TABLE car
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE user
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
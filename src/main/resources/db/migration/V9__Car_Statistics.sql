@@ -0,0 +1,21 @@
+-- owner_id 0 holds the global counts, so it has no foreign key to user
+CREATE TABLE car_statistics
+(
+    owner_id  BIGINT      NOT NULL,
+    brand     VARCHAR(50) NOT NULL,
+    model     VARCHAR(50) NOT NULL,
+    year      INT         NOT NULL,
+    car_count BIGINT      NOT NULL,
+
+    CONSTRAINT CAR_STATISTICS_PK PRIMARY KEY (owner_id, brand, model, year)
+) ENGINE = InnoDB;
+
+INSERT INTO car_statistics (owner_id, brand, model, year, car_count)
+SELECT owner_id, brand, model, year, COUNT(*)
+FROM car
+GROUP BY owner_id, brand, model, year;
+
+INSERT INTO car_statistics (owner_id, brand, model, year, car_count)
+SELECT 0, brand, model, year, COUNT(*)
+FROM car
+GROUP BY brand, model, year;
@@ -1,7 +1,10 @@
 package br.unb.garage_relation.integration_tests;
 
 import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.request.LoginDTO;
+import br.unb.garage_relation.model.dto.request.RegisterDTO;
 import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -10,6 +13,7 @@ import java.util.List;
 
 import static br.unb.garage_relation.Constants.TEST_SERVER_PORT;
 import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.DEFINED_PORT;
 
@@ -18,13 +22,35 @@ public class CarControllerIntegrationTests {
 	@Autowired
 	private CarRepository carRepository;
 
+	@Autowired
+	private UserRepository userRepository;
+
 	@Test
 	public void findAllCars__withTwoCars__shouldReturn200WithTwoCars() {
 		// Arrange
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+
+		var ownerId = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new RegisterDTO("user", "password", "user@email.com", "User"))
+				.post("/auth/signup")
+				.jsonPath()
+				.getLong("id");
+		var accessToken = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new LoginDTO("user", "password"))
+				.post("/auth/login")
+				.jsonPath()
+				.getString("accessToken");
+		var owner = userRepository.getReferenceById(ownerId);
+
 		carRepository.saveAll(
 				List.of(
-						new Car("Ford", "Fiesta", 2010),
-						new Car("Ford", "Focus", 2011)
+						new Car("Ford", "Fiesta", 2010, owner),
+						new Car("Ford", "Focus", 2011, owner)
 				)
 		);
 
@@ -32,8 +58,7 @@ public class CarControllerIntegrationTests {
 		var response = given()
 				.basePath("/api/v1/car")
 				.port(TEST_SERVER_PORT)
-				.auth()
-				.basic("user", "password")
+				.header("Authorization", "Bearer " + accessToken)
 				.when()
 				.get();
 
@@ -0,0 +1,106 @@
+package br.unb.garage_relation.integration_tests;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.request.LoginDTO;
+import br.unb.garage_relation.model.dto.request.RegisterDTO;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.UserRepository;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Map;
+
+import static br.unb.garage_relation.Constants.TEST_SERVER_PORT;
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.DEFINED_PORT;
+
+@SpringBootTest(webEnvironment = DEFINED_PORT)
+public class ConditionalRequestIntegrationTests {
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private String accessToken;
+	private Car car;
+
+	@BeforeEach
+	public void setUp() {
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+
+		var signup = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new RegisterDTO("etag", "password", "etag@email.com", "ETag"))
+				.post("/auth/signup");
+		accessToken = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new LoginDTO("etag", "password"))
+				.post("/auth/login")
+				.jsonPath()
+				.getString("accessToken");
+
+		car = carRepository.save(new Car("Fiesta", "Ford", 2010, userRepository.getReferenceById(signup.jsonPath().getLong("id"))));
+	}
+
+	@Test
+	public void findById__withMatchingIfNoneMatch__returns304WithoutBody() {
+		// Arrange
+		var eTag = authenticated().get("/api/v1/car/" + car.getId()).header("ETag");
+
+		// Act
+		var response = authenticated()
+				.header("If-None-Match", eTag)
+				.get("/api/v1/car/" + car.getId());
+
+		// Assert
+		assertThat(eTag).isEqualTo("\"0\"");
+		assertThat(response.statusCode()).isEqualTo(304);
+		assertThat(response.asString()).isEmpty();
+	}
+
+	@Test
+	public void partialUpdate__withCurrentIfMatch__returns200WithNewETag() {
+		// Act
+		var response = authenticated()
+				.header("If-Match", "\"0\"")
+				.contentType(JSON)
+				.body(Map.of("year", 2011))
+				.patch("/api/v1/car/" + car.getId());
+
+		// Assert
+		assertThat(response.statusCode()).isEqualTo(200);
+		assertThat(response.header("ETag")).isEqualTo("\"1\"");
+	}
+
+	@Test
+	public void partialUpdate__withStaleIfMatch__returns412AndKeepsTheCar() {
+		// Arrange
+		authenticated().contentType(JSON).body(Map.of("year", 2011)).patch("/api/v1/car/" + car.getId());
+
+		// Act
+		var response = authenticated()
+				.header("If-Match", "\"0\"")
+				.contentType(JSON)
+				.body(Map.of("year", 1999))
+				.patch("/api/v1/car/" + car.getId());
+
+		// Assert
+		assertThat(response.statusCode()).isEqualTo(412);
+		assertThat(carRepository.findById(car.getId()).orElseThrow().getYear()).isEqualTo(2011);
+	}
+
+	private RequestSpecification authenticated() {
+		return given()
+				.port(TEST_SERVER_PORT)
+				.header("Authorization", "Bearer " + accessToken);
+	}
+}
@@ -0,0 +1,214 @@
+package br.unb.garage_relation.integration_tests;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.dto.request.LoginDTO;
+import br.unb.garage_relation.model.dto.request.RegisterDTO;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.UserRepository;
+import io.restassured.response.Response;
+import io.restassured.specification.RequestSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+
+import static br.unb.garage_relation.Constants.TEST_SERVER_PORT;
+import static io.restassured.RestAssured.given;
+import static io.restassured.http.ContentType.JSON;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.DEFINED_PORT;
+
+/**
+ * Calls every endpoint with open-in-view disabled, so any lazy association touched outside the
+ * service transaction fails the request.
+ */
+@SpringBootTest(webEnvironment = DEFINED_PORT, properties = "spring.jpa.open-in-view=false")
+public class OpenInViewDisabledIntegrationTests {
+	private static final String USERNAME = "osiv";
+	private static final String PASSWORD = "password";
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private String accessToken;
+	private String refreshToken;
+	private Long userId;
+	private Car car;
+
+	@BeforeEach
+	public void setUp() {
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+
+		var signup = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new RegisterDTO(USERNAME, PASSWORD, "osiv@email.com", "Open In View"))
+				.post("/auth/signup");
+		assertOk(signup, 200);
+		userId = signup.jsonPath().getLong("id");
+
+		var login = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new LoginDTO(USERNAME, PASSWORD))
+				.post("/auth/login");
+		assertOk(login, 200);
+		accessToken = login.jsonPath().getString("accessToken");
+		refreshToken = login.jsonPath().getString("refreshToken");
+
+		car = carRepository.save(new Car("Fiesta", "Ford", 2010, userRepository.getReferenceById(userId)));
+	}
+
+	@Test
+	public void authEndpoints__withOpenInViewDisabled__succeed() {
+		// Act
+		var refresh = given()
+				.port(TEST_SERVER_PORT)
+				.header("Authorization", "Bearer " + refreshToken)
+				.put("/auth/refresh");
+		var logout = authenticated().delete("/auth/logout");
+
+		// Assert
+		assertOk(refresh, 200);
+		assertOk(logout, 204);
+	}
+
+	@Test
+	public void carReadEndpoints__withOpenInViewDisabled__succeed() {
+		// Act
+		var findAll = authenticated().get("/api/v1/car");
+		var search = authenticated().queryParam("q", "Fiesta").get("/api/v1/car/search");
+		var findById = authenticated().get("/api/v1/car/" + car.getId());
+		var export = authenticated().queryParam("format", "csv").get("/api/v1/car/export");
+
+		// Assert
+		assertOk(findAll, 200);
+		assertOk(search, 200);
+		assertOk(findById, 200);
+		assertOk(export, 200);
+		assertThat(export.asString()).contains("Fiesta");
+	}
+
+	@Test
+	public void carWriteEndpoints__withOpenInViewDisabled__succeed() {
+		// Act
+		var create = authenticated()
+				.contentType(JSON)
+				.body(Map.of("model", "Gol", "brand", "Volkswagen", "year", 2013, "ownerId", userId))
+				.post("/api/v1/car");
+		var update = authenticated()
+				.contentType(JSON)
+				.body(Map.of("model", "Focus", "brand", "Ford", "year", 2011))
+				.put("/api/v1/car/" + car.getId());
+		var partialUpdate = authenticated()
+				.contentType(JSON)
+				.body(Map.of("year", 2012))
+				.patch("/api/v1/car/" + car.getId());
+		var delete = authenticated().delete("/api/v1/car/" + create.jsonPath().getLong("id"));
+
+		// Assert
+		assertOk(create, 201);
+		assertOk(update, 200);
+		assertOk(partialUpdate, 200);
+		assertOk(delete, 204);
+	}
+
+	@Test
+	public void carBatchEndpoints__withOpenInViewDisabled__succeed() {
+		// Act
+		var create = authenticated()
+				.contentType(JSON)
+				.body(List.of(Map.of("model", "Uno", "brand", "Fiat", "year", 2019, "ownerId", userId)))
+				.post("/api/v1/car/batch");
+		var update = authenticated()
+				.contentType(JSON)
+				.body(List.of(Map.of("id", car.getId(), "year", 2015)))
+				.patch("/api/v1/car/batch");
+		var delete = authenticated()
+				.contentType(JSON)
+				.body(List.of(car.getId()))
+				.delete("/api/v1/car/batch");
+
+		// Assert
+		assertOk(create, 200);
+		assertOk(update, 200);
+		assertOk(delete, 200);
+		assertThat(create.jsonPath().getInt("[0].status")).isEqualTo(201);
+	}
+
+	@Test
+	public void carImportEndpoints__withOpenInViewDisabled__succeed() {
+		// Act
+		var csv = authenticated()
+				.contentType("text/csv")
+				.body("model,brand,year\nUno,Fiat,2019\nCivic,Honda,1500\n")
+				.post("/api/v1/car/import");
+		var ndjson = authenticated()
+				.contentType("application/x-ndjson")
+				.body("{\"model\":\"Gol\",\"brand\":\"Volkswagen\",\"year\":2013}\n")
+				.post("/api/v1/car/import");
+		var file = authenticated()
+				.multiPart("file", "cars.csv", "model,brand,year\nOnix,Chevrolet,2020\n".getBytes())
+				.post("/api/v1/car/import");
+
+		// Assert
+		assertOk(csv, 200);
+		assertOk(ndjson, 200);
+		assertOk(file, 200);
+		assertThat(csv.jsonPath().getLong("imported")).isEqualTo(1);
+		assertThat(csv.jsonPath().getInt("errors[0].index")).isEqualTo(1);
+		assertThat(ndjson.jsonPath().getLong("imported")).isEqualTo(1);
+		assertThat(file.jsonPath().getLong("imported")).isEqualTo(1);
+	}
+
+	@Test
+	public void userEndpoints__withOpenInViewDisabled__succeed() {
+		// Arrange
+		var other = given()
+				.port(TEST_SERVER_PORT)
+				.contentType(JSON)
+				.body(new RegisterDTO("other", PASSWORD, "other@email.com", "Other"))
+				.post("/auth/signup");
+
+		// Act
+		var list = authenticated().get("/api/v1/user");
+		var findById = authenticated().get("/api/v1/user/" + userId);
+		var findCars = authenticated().get("/api/v1/user/" + userId + "/cars");
+		var update = authenticated()
+				.contentType(JSON)
+				.body(Map.of("username", USERNAME, "password", PASSWORD, "email", "osiv@email.com", "fullName", "Updated"))
+				.put("/api/v1/user/" + userId);
+		var partialUpdate = authenticated()
+				.contentType(JSON)
+				.body(Map.of("fullName", "Partially Updated"))
+				.patch("/api/v1/user/" + userId);
+		var delete = authenticated().delete("/api/v1/user/" + other.jsonPath().getLong("id"));
+
+		// Assert
+		assertOk(list, 200);
+		assertOk(findById, 200);
+		assertOk(findCars, 200);
+		assertOk(update, 200);
+		assertOk(partialUpdate, 200);
+		assertOk(delete, 204);
+		assertThat(findCars.asString()).contains("Fiesta");
+	}
+
+	private RequestSpecification authenticated() {
+		return given()
+				.port(TEST_SERVER_PORT)
+				.header("Authorization", "Bearer " + accessToken);
+	}
+
+	private static void assertOk(Response response, int status) {
+		assertThat(response.asString()).doesNotContain("lazily initialize", "no Session");
+		assertThat(response.statusCode()).isEqualTo(status);
+	}
+}
@@ -0,0 +1,15 @@
+package br.unb.garage_relation.integration_tests.load;
+
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "server.tomcat.threads.max=" + PlatformThreadLoadTests.TOMCAT_MAX_THREADS)
+public class PlatformThreadLoadTests extends RequestConcurrencyLoadTests {
+	static final int TOMCAT_MAX_THREADS = 200;
+
+	@Override
+	protected void assertLoadResult(LoadResult result) {
+		assertThat(result.peakInFlight()).isLessThanOrEqualTo(TOMCAT_MAX_THREADS);
+	}
+}
@@ -0,0 +1,135 @@
+package br.unb.garage_relation.integration_tests.load;
+
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.security.JwtService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * Fires {@link #REQUESTS} concurrent {@code GET /api/v1/car/{id}} calls while every lookup holds a pooled connection
+ * for {@link #DATABASE_LATENCY_SECONDS} ({@code SELECT SLEEP}), and reports how many requests the server had
+ * in flight at once and the latency percentiles. Subclasses pick the threading mode and what to assert.
+ */
+@Tag("load")
+@SpringBootTest(
+		webEnvironment = RANDOM_PORT,
+		properties = {
+				"spring.datasource.hikari.maximum-pool-size=" + RequestConcurrencyLoadTests.POOL_SIZE,
+				"spring.datasource.hikari.connection-timeout=60000"
+		}
+)
+abstract class RequestConcurrencyLoadTests {
+	static final int REQUESTS = 1000;
+	static final int POOL_SIZE = 50;
+	static final double DATABASE_LATENCY_SECONDS = 0.05;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockBean
+	private CarRepository carRepository;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger peakInFlight = new AtomicInteger();
+
+	@BeforeEach
+	public void setUp() {
+		when(carRepository.findResponseById(anyLong())).thenAnswer(invocation -> {
+			peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			try {
+				jdbcTemplate.queryForObject("SELECT SLEEP(?)", Integer.class, DATABASE_LATENCY_SECONDS);
+				return Optional.of(new CarResponseDTO(invocation.getArgument(0), "Fiesta", "Ford", 2010));
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		});
+	}
+
+	@Test
+	public void findById__withSlowDatabase__reportsConcurrencyAndLatency() {
+		// Arrange
+		var token = accessToken();
+		var client = HttpClient.newHttpClient();
+		var latencies = new long[REQUESTS];
+		var responses = new ArrayList<CompletableFuture<Integer>>(REQUESTS);
+
+		// Act
+		for (int i = 0; i < REQUESTS; i++) {
+			var index = i;
+			var request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/car/" + (i + 1)))
+					.header("Authorization", "Bearer " + token)
+					.header("Accept", "application/json")
+					.build();
+			var start = System.nanoTime();
+
+			responses.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).thenApply(response -> {
+				latencies[index] = System.nanoTime() - start;
+				return response.statusCode();
+			}));
+		}
+
+		var statuses = responses.stream().map(CompletableFuture::join).toList();
+
+		// Assert
+		Arrays.sort(latencies);
+		var result = new LoadResult(peakInFlight.get(), percentile(latencies, 0.50), percentile(latencies, 0.99));
+		System.out.printf(
+				"%s: %d requests, peak in flight %d, p50 %d ms, p99 %d ms%n",
+				getClass().getSimpleName(), REQUESTS, result.peakInFlight(), result.p50Millis(), result.p99Millis()
+		);
+
+		assertThat(statuses).containsOnly(200);
+		assertLoadResult(result);
+	}
+
+	protected abstract void assertLoadResult(LoadResult result);
+
+	record LoadResult(int peakInFlight, long p50Millis, long p99Millis) {
+	}
+
+	private String accessToken() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		try {
+			return jwtService.createAccessToken("load-test", List.of()).getTokenValue();
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+
+	private static long percentile(long[] sortedNanos, double percentile) {
+		var index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+		return sortedNanos[Math.max(index, 0)] / 1_000_000;
+	}
+}
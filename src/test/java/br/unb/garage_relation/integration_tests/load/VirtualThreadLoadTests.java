@@ -0,0 +1,20 @@
+package br.unb.garage_relation.integration_tests.load;
+
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIf("virtualThreadsAvailable")
+@TestPropertySource(properties = "concurrency.virtual-threads.enabled=true")
+public class VirtualThreadLoadTests extends RequestConcurrencyLoadTests {
+	static boolean virtualThreadsAvailable() {
+		return Runtime.version().feature() >= 21;
+	}
+
+	@Override
+	protected void assertLoadResult(LoadResult result) {
+		// Tomcat's worker pool no longer caps the requests in flight; they queue on the Hikari pool instead
+		assertThat(result.peakInFlight()).isGreaterThan(PlatformThreadLoadTests.TOMCAT_MAX_THREADS);
+	}
+}
@@ -0,0 +1,408 @@
+package br.unb.garage_relation.integration_tests.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+
+/**
+ * Boots the application on a MySQL container and has {@code load.users} virtual users run a mix of login, refresh,
+ * create, find and list requests for {@code load.duration} after {@code load.warmup}, each user sending
+ * {@code load.rate} requests per second. Latencies are measured from the time a request was scheduled to be sent,
+ * not from when it was, so a stalled server is charged for the requests it held back, and are kept per endpoint in
+ * HDR histograms; throughput and p50/p99/p999 are printed, the percentile distributions are written to
+ * {@code target/load/*.hgrm}, and the test fails when an endpoint misses its SLO. Every {@code load.*} system property
+ * read below can be overridden on the command line:
+ * {@code ./mvnw -Pload-test test -Dtest=WorkflowLoadTests -Dload.users=100 -Dload.slo.find-car.p99=50}
+ */
+@Tag("load")
+@Testcontainers
+@SpringBootTest(
+		webEnvironment = RANDOM_PORT,
+		properties = {
+				"spring.jpa.show-sql=false",
+				"security.rate-limit.enabled=false"
+		}
+)
+public class WorkflowLoadTests {
+	private static final String PASSWORD = "password";
+	private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+	private static final int KEPT_CAR_IDS = 64;
+	private static final Path REPORT_DIRECTORY = Path.of("target", "load");
+
+	@Container
+	private static final MySQLContainer<?> MYSQL = new MySQLContainer<>(property("load.mysql-image", "mysql:8.0"))
+			.withUrlParam("rewriteBatchedStatements", "true");
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+	@LocalServerPort
+	private int port;
+
+	@DynamicPropertySource
+	static void datasource(DynamicPropertyRegistry registry) {
+		registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+		registry.add("spring.datasource.username", MYSQL::getUsername);
+		registry.add("spring.datasource.password", MYSQL::getPassword);
+	}
+
+	@Test
+	public void workflow__withConcurrentVirtualUsers__meetsSlos() throws Exception {
+		// Arrange
+		var users = Integer.parseInt(property("load.users", "50"));
+		var warmup = Duration.parse(property("load.warmup", "PT10S"));
+		var duration = Duration.parse(property("load.duration", "PT30S"));
+		var interval = (long) (TimeUnit.SECONDS.toNanos(1) / Double.parseDouble(property("load.rate", "10")));
+		var mix = Endpoint.mix();
+		var virtualUsers = new ArrayList<VirtualUser>(users);
+
+		for (int i = 0; i < users; i++) {
+			var virtualUser = new VirtualUser("load-" + i, new SplittableRandom(i));
+			virtualUser.signUp();
+			virtualUsers.add(virtualUser);
+		}
+
+		// Act
+		var measureFrom = System.nanoTime() + warmup.toNanos();
+		var measureUntil = measureFrom + duration.toNanos();
+		var threads = new ArrayList<Thread>(users);
+
+		for (var virtualUser : virtualUsers) {
+			var thread = new Thread(() -> virtualUser.run(mix, interval, measureFrom, measureUntil), virtualUser.username);
+			thread.start();
+			threads.add(thread);
+		}
+
+		for (var thread : threads) {
+			thread.join();
+		}
+
+		// Assert
+		var results = new EnumMap<Endpoint, EndpointResult>(Endpoint.class);
+
+		for (var endpoint : Endpoint.values()) {
+			var histogram = new Histogram(MAX_LATENCY_MICROS, 3);
+			var errors = 0L;
+
+			for (var virtualUser : virtualUsers) {
+				histogram.add(virtualUser.latencies.get(endpoint));
+				errors += virtualUser.errors.get(endpoint);
+			}
+
+			results.put(endpoint, new EndpointResult(histogram, errors));
+		}
+
+		report(results, users, duration);
+
+		var violations = new ArrayList<String>();
+		results.forEach((endpoint, result) -> violations.addAll(endpoint.slo().violations(endpoint, result)));
+		assertThat(violations).isEmpty();
+	}
+
+	private void report(Map<Endpoint, EndpointResult> results, int users, Duration duration) throws IOException {
+		Files.createDirectories(REPORT_DIRECTORY);
+		var seconds = duration.toMillis() / 1000.0;
+
+		System.out.printf("%s: %d virtual users for %s%n", getClass().getSimpleName(), users, duration);
+		System.out.printf(
+				"%-24s %10s %8s %10s %10s %10s %10s %10s%n",
+				"endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms"
+		);
+
+		for (var entry : results.entrySet()) {
+			var endpoint = entry.getKey();
+			var histogram = entry.getValue().histogram();
+
+			System.out.printf(
+					Locale.ROOT,
+					"%-24s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f%n",
+					endpoint.description,
+					histogram.getTotalCount(),
+					entry.getValue().errors(),
+					histogram.getTotalCount() / seconds,
+					millis(histogram.getValueAtPercentile(50)),
+					millis(histogram.getValueAtPercentile(99)),
+					millis(histogram.getValueAtPercentile(99.9)),
+					millis(histogram.getMaxValue())
+			);
+
+			try (var output = new PrintStream(Files.newOutputStream(REPORT_DIRECTORY.resolve(endpoint.key + ".hgrm")))) {
+				histogram.outputPercentileDistribution(output, 1000.0);
+			}
+		}
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static void waitUntil(long deadline) {
+		for (var remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	private static String property(String name, String defaultValue) {
+		return System.getProperty(name, defaultValue);
+	}
+
+	enum Endpoint {
+		LOGIN("login", "POST /auth/login", 5, new Slo(400, 1500, 3000)),
+		REFRESH("refresh", "PUT /auth/refresh", 5, new Slo(50, 250, 500)),
+		CREATE_CAR("create-car", "POST /api/v1/car", 20, new Slo(50, 250, 500)),
+		FIND_CAR("find-car", "GET /api/v1/car/{id}", 50, new Slo(20, 100, 250)),
+		LIST_CARS("list-cars", "GET /api/v1/car", 20, new Slo(50, 250, 500));
+
+		private final String key;
+		private final String description;
+		private final int defaultWeight;
+		private final Slo defaultSlo;
+
+		Endpoint(String key, String description, int defaultWeight, Slo defaultSlo) {
+			this.key = key;
+			this.description = description;
+			this.defaultWeight = defaultWeight;
+			this.defaultSlo = defaultSlo;
+		}
+
+		/**
+		 * Each endpoint repeated as often as its {@code load.mix.<key>} weight, so a uniform pick follows the mix.
+		 */
+		static Endpoint[] mix() {
+			var mix = new ArrayList<Endpoint>();
+
+			for (var endpoint : values()) {
+				var weight = Integer.parseInt(property("load.mix." + endpoint.key, String.valueOf(endpoint.defaultWeight)));
+
+				for (int i = 0; i < weight; i++) {
+					mix.add(endpoint);
+				}
+			}
+
+			return mix.toArray(Endpoint[]::new);
+		}
+
+		Slo slo() {
+			var prefix = "load.slo." + key + ".";
+			return new Slo(
+					Double.parseDouble(property(prefix + "p50", String.valueOf(defaultSlo.p50Millis()))),
+					Double.parseDouble(property(prefix + "p99", String.valueOf(defaultSlo.p99Millis()))),
+					Double.parseDouble(property(prefix + "p999", String.valueOf(defaultSlo.p999Millis())))
+			);
+		}
+	}
+
+	record Slo(double p50Millis, double p99Millis, double p999Millis) {
+		List<String> violations(Endpoint endpoint, EndpointResult result) {
+			var histogram = result.histogram();
+			var violations = new ArrayList<String>();
+			var maxErrorRate = Double.parseDouble(property("load.slo.error-rate", "0.001"));
+
+			if (histogram.getTotalCount() == 0) {
+				violations.add(endpoint.description + " was never called");
+				return violations;
+			}
+
+			check(violations, endpoint, "p50", millis(histogram.getValueAtPercentile(50)), p50Millis);
+			check(violations, endpoint, "p99", millis(histogram.getValueAtPercentile(99)), p99Millis);
+			check(violations, endpoint, "p999", millis(histogram.getValueAtPercentile(99.9)), p999Millis);
+
+			var errorRate = (double) result.errors() / histogram.getTotalCount();
+
+			if (errorRate > maxErrorRate) {
+				violations.add(String.format(Locale.ROOT, "%s error rate %.4f > %.4f", endpoint.description, errorRate, maxErrorRate));
+			}
+
+			return violations;
+		}
+
+		private static void check(List<String> violations, Endpoint endpoint, String percentile, double actual, double limit) {
+			if (actual > limit) {
+				violations.add(String.format(Locale.ROOT, "%s %s %.2f ms > %.2f ms", endpoint.description, percentile, actual, limit));
+			}
+		}
+	}
+
+	record EndpointResult(Histogram histogram, long errors) {
+	}
+
+	/**
+	 * One account sending a request every {@code interval}, open loop: when a response comes late the next requests
+	 * are sent at once, and their latency still counts from when they were due. Its histograms are only touched by
+	 * its own thread, and are merged after the run.
+	 */
+	private class VirtualUser {
+		private final String username;
+		private final SplittableRandom random;
+		private final Map<Endpoint, Histogram> latencies = new EnumMap<>(Endpoint.class);
+		private final Map<Endpoint, Long> errors = new EnumMap<>(Endpoint.class);
+		private final long[] carIds = new long[KEPT_CAR_IDS];
+		private int carCount;
+		private long userId;
+		private String accessToken;
+		private String refreshToken;
+
+		VirtualUser(String username, SplittableRandom random) {
+			this.username = username;
+			this.random = random;
+
+			for (var endpoint : Endpoint.values()) {
+				latencies.put(endpoint, new Histogram(MAX_LATENCY_MICROS, 3));
+				errors.put(endpoint, 0L);
+			}
+		}
+
+		void signUp() throws IOException, InterruptedException {
+			var body = Map.of(
+					"username", username,
+					"password", PASSWORD,
+					"email", username + "@garage-relation.local",
+					"fullName", "Load " + username
+			);
+			var response = client.send(post("/auth/signup", body).build(), HttpResponse.BodyHandlers.ofString());
+			assertThat(response.statusCode()).as("signup of %s", username).isEqualTo(200);
+			userId = objectMapper.readTree(response.body()).get("id").asLong();
+
+			assertThat(call(Endpoint.LOGIN, false)).as("login of %s", username).isTrue();
+			assertThat(call(Endpoint.CREATE_CAR, false)).as("first car of %s", username).isTrue();
+		}
+
+		void run(Endpoint[] mix, long interval, long measureFrom, long measureUntil) {
+			// spread the users over the first interval so they do not all send at once
+			var scheduled = System.nanoTime() + random.nextLong(interval);
+
+			for (; scheduled < measureUntil; scheduled += interval) {
+				waitUntil(scheduled);
+				var endpoint = mix[random.nextInt(mix.length)];
+				var measured = scheduled >= measureFrom;
+
+				// a failed refresh may have revoked the refresh token, so log in again to keep the user going
+				if (!call(endpoint, scheduled, measured) && endpoint == Endpoint.REFRESH) {
+					call(Endpoint.LOGIN, System.nanoTime(), measured);
+				}
+			}
+		}
+
+		private boolean call(Endpoint endpoint, boolean measured) {
+			return call(endpoint, System.nanoTime(), measured);
+		}
+
+		private boolean call(Endpoint endpoint, long scheduled, boolean measured) {
+			var request = request(endpoint);
+			JsonNode body = null;
+			var succeeded = false;
+
+			try {
+				var response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+				succeeded = response.statusCode() / 100 == 2;
+
+				if (succeeded && (endpoint == Endpoint.LOGIN || endpoint == Endpoint.REFRESH || endpoint == Endpoint.CREATE_CAR)) {
+					body = objectMapper.readTree(response.body());
+				}
+			} catch (IOException e) {
+				succeeded = false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			if (measured) {
+				var micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+				latencies.get(endpoint).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+
+				if (!succeeded) {
+					errors.merge(endpoint, 1L, Long::sum);
+				}
+			}
+
+			if (body != null) {
+				accept(endpoint, body);
+			}
+
+			return succeeded;
+		}
+
+		private HttpRequest request(Endpoint endpoint) {
+			return switch (endpoint) {
+				case LOGIN -> post("/auth/login", Map.of("username", username, "password", PASSWORD)).build();
+				case REFRESH -> HttpRequest.newBuilder(uri("/auth/refresh"))
+						.header("Authorization", "Bearer " + refreshToken)
+						.header("Accept", "application/json")
+						.PUT(HttpRequest.BodyPublishers.noBody())
+						.build();
+				case CREATE_CAR -> post("/api/v1/car", Map.of(
+						"model", "Model " + random.nextInt(100),
+						"brand", "Brand " + random.nextInt(20),
+						"year", 1990 + random.nextInt(35),
+						"ownerId", userId
+				)).header("Authorization", "Bearer " + accessToken).build();
+				case FIND_CAR -> get("/api/v1/car/" + carIds[random.nextInt(Math.min(carCount, KEPT_CAR_IDS))]);
+				case LIST_CARS -> get("/api/v1/car?size=20");
+			};
+		}
+
+		private void accept(Endpoint endpoint, JsonNode body) {
+			switch (endpoint) {
+				case LOGIN, REFRESH -> {
+					accessToken = body.get("accessToken").asText();
+					refreshToken = body.get("refreshToken").asText();
+				}
+				case CREATE_CAR -> carIds[carCount++ % KEPT_CAR_IDS] = body.get("id").asLong();
+				default -> {
+				}
+			}
+		}
+
+		private HttpRequest get(String path) {
+			return HttpRequest.newBuilder(uri(path))
+					.header("Authorization", "Bearer " + accessToken)
+					.header("Accept", "application/json")
+					.GET()
+					.build();
+		}
+
+		private HttpRequest.Builder post(String path, Map<String, ?> body) {
+			try {
+				return HttpRequest.newBuilder(uri(path))
+						.header("Content-Type", "application/json")
+						.header("Accept", "application/json")
+						.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		private URI uri(String path) {
+			return URI.create("http://localhost:" + port + path);
+		}
+	}
+}
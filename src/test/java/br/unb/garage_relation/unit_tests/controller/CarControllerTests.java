@@ -34,16 +34,16 @@ public class CarControllerTests {
 		// Arrange
 		var expectedResponse = CollectionModel.of(
 				List.of(
-						carMapper.toModel(new Car(1L, "Uno", "Fiat", 2011)),
-						carMapper.toModel(new Car(2L, "Palio", "Fiat", 2010))
+						carMapper.toModel(new Car(1L, "Uno", "Fiat", 2011, null)),
+						carMapper.toModel(new Car(2L, "Palio", "Fiat", 2010, null))
 				),
-				linkTo(methodOn(CarController.class).findAll()).withSelfRel()
+				linkTo(methodOn(CarController.class).findAll(null, null)).withSelfRel()
 		);
 
-		when(carService.findAll()).thenReturn(expectedResponse);
+		when(carService.findAll(null, null)).thenReturn(expectedResponse);
 
 		// Act
-		var response = carController.findAll();
+		var response = carController.findAll(null, null);
 
 		// Assert
 		assertThat(response).isEqualTo(expectedResponse);
@@ -0,0 +1,42 @@
+package br.unb.garage_relation.unit_tests.controller;
+
+import br.unb.garage_relation.controller.ETags;
+import br.unb.garage_relation.exception.PreconditionFailedException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ETagsTests {
+	@Test
+	public void of__withVersion__returnsQuotedStrongETag() {
+		// Act
+		var eTag = ETags.of(3L);
+
+		// Assert
+		assertThat(eTag).isEqualTo("\"3\"");
+	}
+
+	@Test
+	public void expectedVersion__withStrongETag__returnsVersion() {
+		// Act
+		var version = ETags.expectedVersion(" \"3\" ");
+
+		// Assert
+		assertThat(version).isEqualTo(3L);
+	}
+
+	@Test
+	public void expectedVersion__withMissingHeaderOrWildcard__returnsNull() {
+		// Act and Assert
+		assertThat(ETags.expectedVersion(null)).isNull();
+		assertThat(ETags.expectedVersion("*")).isNull();
+	}
+
+	@Test
+	public void expectedVersion__withWeakOrMalformedETag__throwsPreconditionFailedException() {
+		// Act and Assert
+		assertThatThrownBy(() -> ETags.expectedVersion("W/\"3\"")).isInstanceOf(PreconditionFailedException.class);
+		assertThatThrownBy(() -> ETags.expectedVersion("\"abc\"")).isInstanceOf(PreconditionFailedException.class);
+	}
+}
@@ -0,0 +1,83 @@
+package br.unb.garage_relation.unit_tests.datasource;
+
+import br.unb.garage_relation.datasource.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.H2;
+
+public class ReadWriteRoutingDataSourceTests {
+	private EmbeddedDatabase primary;
+	private EmbeddedDatabase replica;
+	private JdbcTemplate jdbcTemplate;
+	private TransactionTemplate transactionTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+
+		var dataSource = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica));
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	@Test
+	public void readOnlyTransaction__goesToReplica() {
+		// Arrange
+		transactionTemplate.setReadOnly(true);
+
+		// Act
+		var node = transactionTemplate.execute(status -> currentNode());
+
+		// Assert
+		assertThat(node).isEqualTo("replica");
+	}
+
+	@Test
+	public void readWriteTransaction__goesToPrimary() {
+		// Act
+		var node = transactionTemplate.execute(status -> currentNode());
+
+		// Assert
+		assertThat(node).isEqualTo("primary");
+	}
+
+	@Test
+	public void noTransaction__goesToPrimary() {
+		// Act
+		var node = currentNode();
+
+		// Assert
+		assertThat(node).isEqualTo("primary");
+	}
+
+	private String currentNode() {
+		return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+	}
+
+	private static EmbeddedDatabase database(String name) {
+		var database = new EmbeddedDatabaseBuilder()
+				.setType(H2)
+				.setName(name)
+				.build();
+
+		new JdbcTemplate(database).execute("CREATE TABLE node (name VARCHAR(10)); INSERT INTO node VALUES ('" + name + "')");
+
+		return database;
+	}
+}
@@ -2,12 +2,14 @@ package br.unb.garage_relation.unit_tests.repository;
 
 import br.unb.garage_relation.model.Car;
 import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
 import br.unb.garage_relation.repository.CarRepository;
 import br.unb.garage_relation.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
 
@@ -64,4 +66,71 @@ public class CarRepositoryTests {
 				carsToSave.get(4)
 		);
 	}
+
+	@Test
+	public void searchByBrandOrModel__withSomeCars__returnsMatchingCarsOrderedById() {
+		// Arrange
+		var carsToSave = List.of(
+				new Car("Fiesta", "Ford", 2010, owner),
+				new Car("Gol", "Volkswagen", 2013, owner),
+				new Car("Golf", "Volkswagen", 2014, owner),
+				new Car("Uno", "Fiat", 2015, owner)
+		);
+
+		carRepository.saveAll(carsToSave);
+
+		// Act
+		var result = carRepository.searchByBrandOrModel("\"Gol\"", 0L, PageRequest.ofSize(10));
+
+		// Assert
+		assertThat(result.getContent()).containsExactly(
+				carsToSave.get(1),
+				carsToSave.get(2)
+		);
+		assertThat(result.hasNext()).isFalse();
+	}
+
+	@Test
+	public void findResponsesAfter__withThreeCars__returnsDtosAfterTheCursor() {
+		// Arrange
+		var carsToSave = carRepository.saveAll(List.of(
+				new Car("Fiesta", "Ford", 2010, owner),
+				new Car("Gol", "Volkswagen", 2013, owner),
+				new Car("Uno", "Fiat", 2015, owner)
+		));
+		var first = carsToSave.get(0);
+		var second = carsToSave.get(1);
+
+		// Act
+		var result = carRepository.findResponsesAfter(first.getId(), PageRequest.ofSize(1));
+
+		// Assert
+		assertThat(result.getContent()).containsExactly(
+				new CarResponseDTO(second.getId(), second.getModel(), second.getBrand(), second.getYear(), second.getVersion())
+		);
+		assertThat(result.hasNext()).isTrue();
+	}
+
+	@Test
+	public void findResponsesByOwnerAfter__withTwoOwners__returnsOnlyTheOwnersCars() {
+		// Arrange
+		var otherOwner = userRepository.save(new User("other", "password", "other@email.com", "other user"));
+		var carsToSave = carRepository.saveAll(List.of(
+				new Car("Fiesta", "Ford", 2010, owner),
+				new Car("Gol", "Volkswagen", 2013, otherOwner),
+				new Car("Uno", "Fiat", 2015, owner)
+		));
+		var first = carsToSave.get(0);
+		var third = carsToSave.get(2);
+
+		// Act
+		var result = carRepository.findResponsesByOwnerAfter(owner.getId(), 0L, PageRequest.ofSize(10));
+
+		// Assert
+		assertThat(result.getContent()).containsExactly(
+				new CarResponseDTO(first.getId(), first.getModel(), first.getBrand(), first.getYear(), first.getVersion()),
+				new CarResponseDTO(third.getId(), third.getModel(), third.getBrand(), third.getYear(), third.getVersion())
+		);
+		assertThat(result.hasNext()).isFalse();
+	}
 }
@@ -0,0 +1,142 @@
+package br.unb.garage_relation.unit_tests.repository;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.UserRepository;
+import br.unb.garage_relation.service.CarStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class CarStatisticsRepositoryTests {
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CarStatisticsService carStatisticsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private User owner;
+	private User otherOwner;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate.update("DELETE FROM car_statistics");
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+
+		owner = userRepository.save(new User("test", "password", "email@email.com", "test user"));
+		otherOwner = userRepository.save(new User("other", "password", "other@email.com", "other user"));
+	}
+
+	@Test
+	public void add__withOwnerAndGlobalScopes__countsEachScopeSeparately() {
+		// Arrange
+		for (var car : carRepository.saveAll(List.of(
+				new Car("Fiesta", "Ford", 2010, owner),
+				new Car("Focus", "Ford", 2011, owner),
+				new Car("Gol", "Volkswagen", 2013, otherOwner)
+		))) {
+			carStatisticsService.added(car);
+		}
+
+		// Act
+		var global = carStatisticsService.find("brand", null);
+		var perOwner = carStatisticsService.find("brand", owner.getId());
+
+		// Assert
+		assertThat(global.buckets()).containsExactly(
+				new CarStatisticsBucketDTO("Ford", 2L),
+				new CarStatisticsBucketDTO("Volkswagen", 1L)
+		);
+		assertThat(perOwner.buckets()).containsExactly(new CarStatisticsBucketDTO("Ford", 2L));
+		assertThat(perOwner.total()).isEqualTo(2L);
+	}
+
+	@Test
+	public void rebuild__withDriftedCounts__matchesTheCarTable() {
+		// Arrange
+		carRepository.saveAll(List.of(
+				new Car("Fiesta", "Ford", 2010, owner),
+				new Car("Gol", "Volkswagen", 2010, otherOwner)
+		));
+		jdbcTemplate.update("INSERT INTO car_statistics VALUES (0, 'Fiat', 'Uno', 1999, 42)");
+
+		// Act
+		carStatisticsService.rebuild();
+
+		// Assert
+		assertThat(carStatisticsService.find("year", null).buckets()).containsExactly(new CarStatisticsBucketDTO("2010", 2L));
+		assertThat(carStatisticsService.find("model", otherOwner.getId()).buckets()).containsExactly(new CarStatisticsBucketDTO("Gol", 1L));
+	}
+
+	@Test
+	public void record__withConcurrentMultiOwnerBatches__neitherDeadlocksNorLosesCounts() throws Exception {
+		// Arrange
+		var rounds = 50;
+		var ownerBucket = new CarBucket(owner.getId(), "Ford", "Fiesta", 2010);
+		var otherOwnerBucket = new CarBucket(otherOwner.getId(), "Ford", "Fiesta", 2010);
+		var transactions = new TransactionTemplate(transactionManager);
+		var barrier = new CyclicBarrier(2);
+		var executor = Executors.newFixedThreadPool(2);
+
+		// both owner rows and the global row exist, so every write below locks a row instead of inserting one
+		carStatisticsService.record(Map.of(ownerBucket, 1L, otherOwnerBucket, 1L));
+
+		// Act
+		try {
+			var bothOwners = executor.submit(() -> {
+				for (int i = 0; i < rounds; i++) {
+					barrier.await(10, TimeUnit.SECONDS);
+					transactions.executeWithoutResult(status ->
+							carStatisticsService.record(Map.of(ownerBucket, 1L, otherOwnerBucket, 1L))
+					);
+				}
+				return null;
+			});
+			var otherOwnerOnly = executor.submit(() -> {
+				for (int i = 0; i < rounds; i++) {
+					barrier.await(10, TimeUnit.SECONDS);
+					transactions.executeWithoutResult(status ->
+							carStatisticsService.record(Map.of(otherOwnerBucket, 1L))
+					);
+				}
+				return null;
+			});
+
+			bothOwners.get(1, TimeUnit.MINUTES);
+			otherOwnerOnly.get(1, TimeUnit.MINUTES);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// Assert
+		assertThat(carStatisticsService.find("brand", owner.getId()).total()).isEqualTo(1L + rounds);
+		assertThat(carStatisticsService.find("brand", otherOwner.getId()).total()).isEqualTo(1L + 2L * rounds);
+		assertThat(carStatisticsService.find("brand", null).total()).isEqualTo(2L + 3L * rounds);
+	}
+}
@@ -0,0 +1,127 @@
+package br.unb.garage_relation.unit_tests.repository;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.CarStatisticsRepository;
+import br.unb.garage_relation.repository.UserRepository;
+import br.unb.garage_relation.service.CarStatisticsService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL Hibernate actually sends for each repository query and fails when MySQL
+ * would read a whole table ({@code type = ALL}). Exempt on purpose: {@code streamAll}, which backs the
+ * export and reads every row, and {@code findByBrandOrModelContains}, whose leading wildcard cannot use
+ * an index and which only remains for the legacy search.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+		"br.unb.garage_relation.unit_tests.repository.QueryPlanTests$RecordingStatementInspector")
+public class QueryPlanTests {
+	private static final int CARS = 200;
+	private static final int PAGE_SIZE = 20;
+
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CarStatisticsRepository carStatisticsRepository;
+
+	@Autowired
+	private CarStatisticsService carStatisticsService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User owner;
+	private Long carId;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate.update("DELETE FROM user_permission");
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+
+		owner = userRepository.save(new User("test", "password", "email@email.com", "test user"));
+		jdbcTemplate.update("INSERT IGNORE INTO permission (name) VALUES ('USER')");
+		jdbcTemplate.update("INSERT INTO user_permission (user_id, permission_name) VALUES (?, 'USER')", owner.getId());
+
+		var cars = new ArrayList<Car>(CARS);
+		for (int i = 0; i < CARS; i++) {
+			cars.add(new Car("Model " + i, "Brand " + (i % 10), 1990 + i % 30, owner));
+		}
+		carId = carRepository.saveAll(cars).get(0).getId();
+		carStatisticsService.rebuild();
+
+		// plans on freshly filled tables depend on statistics, so refresh them the way a long-lived table has them
+		jdbcTemplate.execute("ANALYZE TABLE car, car_statistics, user, user_permission, permission");
+		RecordingStatementInspector.STATEMENTS.clear();
+	}
+
+	@Test
+	public void carRepositoryQueries__withIndexes__neverScanFullTable() {
+		assertNoFullScan(() -> carRepository.findById(carId), carId);
+		assertNoFullScan(() -> carRepository.findResponseById(carId), carId);
+		assertNoFullScan(() -> carRepository.findResponsesAfter(carId, PageRequest.ofSize(PAGE_SIZE)), carId, PAGE_SIZE + 1);
+		assertNoFullScan(() -> carRepository.findByIdGreaterThanOrderByIdAsc(carId, PageRequest.ofSize(PAGE_SIZE)), carId, PAGE_SIZE + 1);
+		assertNoFullScan(() -> carRepository.findResponsesByOwnerAfter(owner.getId(), 0L, PageRequest.ofSize(PAGE_SIZE)), owner.getId(), 0L, PAGE_SIZE + 1);
+		assertNoFullScan(() -> carRepository.searchByBrandOrModel("Brand", carId, PageRequest.ofSize(PAGE_SIZE)), "Brand", carId, PAGE_SIZE + 1);
+	}
+
+	@Test
+	public void userRepositoryQueries__withIndexes__neverScanFullTable() {
+		assertNoFullScan(() -> userRepository.findById(owner.getId()), owner.getId());
+		assertNoFullScan(() -> userRepository.findByUsername("test"), "test");
+		assertNoFullScan(() -> userRepository.findIdByUsername("test"), "test");
+		assertNoFullScan(() -> userRepository.findCredentialRowsByUsername("test"), "test");
+		assertNoFullScan(() -> userRepository.findByIdGreaterThanOrderByIdAsc(0L, PageRequest.ofSize(PAGE_SIZE)), 0L, PAGE_SIZE + 1);
+	}
+
+	@Test
+	public void carStatisticsRepositoryQueries__withIndexes__neverScanFullTable() {
+		assertNoFullScan(() -> carStatisticsRepository.countByBrand(owner.getId()), owner.getId());
+		assertNoFullScan(() -> carStatisticsRepository.countByModel(owner.getId()), owner.getId());
+		assertNoFullScan(() -> carStatisticsRepository.countByYear(0L), 0L);
+	}
+
+	private void assertNoFullScan(Runnable query, Object... parameters) {
+		// Act
+		RecordingStatementInspector.STATEMENTS.clear();
+		query.run();
+
+		// Assert
+		assertThat(RecordingStatementInspector.STATEMENTS).hasSize(1);
+		var sql = RecordingStatementInspector.STATEMENTS.get(0);
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, parameters);
+
+		assertThat(plan)
+				.as("EXPLAIN %s", sql)
+				.isNotEmpty()
+				.noneMatch(row -> "ALL".equals(row.get("type")));
+	}
+
+	public static class RecordingStatementInspector implements StatementInspector {
+		static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			STATEMENTS.add(sql);
+			return sql;
+		}
+	}
+}
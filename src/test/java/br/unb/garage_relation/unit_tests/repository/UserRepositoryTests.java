@@ -0,0 +1,75 @@
+package br.unb.garage_relation.unit_tests.repository;
+
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+public class UserRepositoryTests {
+	@Autowired
+	private CarRepository carRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate.update("DELETE FROM user_permission");
+		carRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	public void findCredentialsByUsername__withTwoPermissions__returnsBothRoles() {
+		// Arrange
+		var user = userRepository.save(new User("test", "hash", "email@email.com", "test user"));
+
+		for (var permission : List.of("ADMIN", "USER")) {
+			jdbcTemplate.update("INSERT IGNORE INTO permission (name) VALUES (?)", permission);
+			jdbcTemplate.update("INSERT INTO user_permission (user_id, permission_name) VALUES (?, ?)", user.getId(), permission);
+		}
+
+		// Act
+		var result = userRepository.findCredentialsByUsername("test");
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(result.get().id()).isEqualTo(user.getId());
+		assertThat(result.get().password()).isEqualTo("hash");
+		assertThat(result.get().roles()).containsExactlyInAnyOrder("ADMIN", "USER");
+	}
+
+	@Test
+	public void findCredentialsByUsername__withoutPermissions__returnsNoRoles() {
+		// Arrange
+		userRepository.save(new User("test", "hash", "email@email.com", "test user"));
+
+		// Act
+		var result = userRepository.findCredentialsByUsername("test");
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(result.get().roles()).isEmpty();
+	}
+
+	@Test
+	public void findCredentialsByUsername__withUnknownUser__returnsEmpty() {
+		// Act
+		var result = userRepository.findCredentialsByUsername("missing");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+}
@@ -0,0 +1,90 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.AuthenticatedUserCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AuthenticatedUserCacheTests {
+	private SimpleMeterRegistry meterRegistry;
+	private AuthenticatedUserCache cache;
+	private AtomicInteger lookups;
+
+	@BeforeEach
+	public void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		cache = new AuthenticatedUserCache(meterRegistry, 100, Duration.ofMinutes(5));
+		lookups = new AtomicInteger();
+	}
+
+	@Test
+	public void getUserId__calledTwiceForSameSubject__looksUpOnce() {
+		// Act
+		var first = cache.getUserId("user", this::lookup);
+		var second = cache.getUserId("user", this::lookup);
+
+		// Assert
+		assertThat(first).isEqualTo(1L);
+		assertThat(second).isEqualTo(1L);
+		assertThat(lookups).hasValue(1);
+		assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void getUserId__afterEvict__looksUpAgain() {
+		// Arrange
+		cache.getUserId("user", this::lookup);
+
+		// Act
+		cache.evict("user");
+		cache.getUserId("user", this::lookup);
+
+		// Assert
+		assertThat(lookups).hasValue(2);
+	}
+
+	@Test
+	public void evictAfterCommit__beforeCommit__keepsTheEntryUntilCommit() {
+		// Arrange
+		cache.getUserId("user", this::lookup);
+		TransactionSynchronizationManager.initSynchronization();
+
+		try {
+			// Act
+			cache.evictAfterCommit("user");
+			cache.getUserId("user", this::lookup);
+			var lookupsBeforeCommit = lookups.get();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+			cache.getUserId("user", this::lookup);
+
+			// Assert
+			assertThat(lookupsBeforeCommit).isEqualTo(1);
+			assertThat(lookups).hasValue(2);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	public void getUserId__withUnknownSubject__returnsNullAndDoesNotCache() {
+		// Act
+		var first = cache.getUserId("unknown", subject -> null);
+		var second = cache.getUserId("unknown", this::lookup);
+
+		// Assert
+		assertThat(first).isNull();
+		assertThat(second).isEqualTo(1L);
+	}
+
+	private Long lookup(String subject) {
+		lookups.incrementAndGet();
+		return 1L;
+	}
+}
@@ -0,0 +1,79 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.CachingJwtDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingJwtDecoderTests {
+	private JwtDecoder delegate;
+	private CachingJwtDecoder decoder;
+
+	@BeforeEach
+	public void setUp() {
+		delegate = Mockito.mock(JwtDecoder.class);
+		decoder = new CachingJwtDecoder(delegate, 100, new SimpleMeterRegistry());
+	}
+
+	@Test
+	public void decode__sameTokenTwice__verifiesOnce() {
+		// Arrange
+		var jwt = jwt("token", Instant.now().plusSeconds(60));
+		when(delegate.decode("token")).thenReturn(jwt);
+
+		// Act
+		var first = decoder.decode("token");
+		var second = decoder.decode("token");
+
+		// Assert
+		assertThat(first).isSameAs(jwt);
+		assertThat(second).isSameAs(jwt);
+		verify(delegate, times(1)).decode("token");
+	}
+
+	@Test
+	public void decode__withExpiredToken__doesNotCache() {
+		// Arrange
+		var jwt = jwt("token", Instant.now().minusSeconds(1));
+		when(delegate.decode("token")).thenReturn(jwt);
+
+		// Act
+		decoder.decode("token");
+		decoder.decode("token");
+
+		// Assert
+		verify(delegate, times(2)).decode("token");
+	}
+
+	@Test
+	public void decode__withInvalidToken__throwsEveryTime() {
+		// Arrange
+		when(delegate.decode("invalid")).thenThrow(new BadJwtException("invalid"));
+
+		// Act and Assert
+		assertThatThrownBy(() -> decoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+		assertThatThrownBy(() -> decoder.decode("invalid")).isInstanceOf(BadJwtException.class);
+		verify(delegate, times(2)).decode("invalid");
+	}
+
+	private Jwt jwt(String token, Instant expiresAt) {
+		return Jwt.withTokenValue(token)
+				.header("alg", "RS256")
+				.subject("user")
+				.issuedAt(expiresAt.minusSeconds(3600))
+				.expiresAt(expiresAt)
+				.build();
+	}
+}
@@ -0,0 +1,133 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.JwtKeys;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.JWK;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class JwtKeysTests {
+	@ParameterizedTest
+	@ValueSource(strings = {"RS256", "ES256", "EdDSA"})
+	public void decoder__withTokenFromEncoder__verifiesIt(String name) throws Exception {
+		// Arrange
+		var algorithm = JwtKeys.algorithm(name);
+		var keyPair = keyPair(algorithm);
+		var signingKey = JwtKeys.signingKey(algorithm, publicPem(keyPair), privatePem(keyPair));
+
+		// Act
+		var token = sign(signingKey);
+		var result = JwtKeys.decoder(List.of(signingKey)).decode(token);
+
+		// Assert
+		assertThat(result.getSubject()).isEqualTo("test");
+		assertThat(result.getHeaders()).containsEntry("alg", name).containsEntry("kid", signingKey.getKeyID());
+	}
+
+	@Test
+	public void decoder__withPreviousPublicKey__verifiesTokensFromBothKeys() throws Exception {
+		// Arrange
+		var previousKeyPair = keyPair(JWSAlgorithm.RS256);
+		var previousKey = JwtKeys.signingKey(JWSAlgorithm.RS256, publicPem(previousKeyPair), privatePem(previousKeyPair));
+		var currentKeyPair = keyPair(JWSAlgorithm.ES256);
+		var currentKey = JwtKeys.signingKey(JWSAlgorithm.ES256, publicPem(currentKeyPair), privatePem(currentKeyPair));
+		var decoder = JwtKeys.decoder(List.of(currentKey, JwtKeys.verificationKey(publicPem(previousKeyPair))));
+
+		// Act
+		var previousResult = decoder.decode(sign(previousKey));
+		var currentResult = decoder.decode(sign(currentKey));
+
+		// Assert
+		assertThat(previousResult.getSubject()).isEqualTo("test");
+		assertThat(currentResult.getSubject()).isEqualTo("test");
+	}
+
+	@Test
+	public void decoder__withTokenFromUnknownKey__throwsBadJwtException() throws Exception {
+		// Arrange
+		var keyPair = keyPair(JWSAlgorithm.EdDSA);
+		var otherKeyPair = keyPair(JWSAlgorithm.EdDSA);
+		var signingKey = JwtKeys.signingKey(JWSAlgorithm.EdDSA, publicPem(keyPair), privatePem(keyPair));
+		var decoder = JwtKeys.decoder(List.of(JwtKeys.verificationKey(publicPem(otherKeyPair))));
+
+		// Act and Assert
+		assertThatThrownBy(() -> decoder.decode(sign(signingKey))).isInstanceOf(BadJwtException.class);
+	}
+
+	@Test
+	public void algorithm__withUnsupportedName__throwsIllegalArgumentException() {
+		// Act and Assert
+		assertThatThrownBy(() -> JwtKeys.algorithm("HS256")).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	public void signingKey__withKeysOfAnotherType__throwsIllegalArgumentException() throws Exception {
+		// Arrange
+		var keyPair = keyPair(JWSAlgorithm.RS256);
+
+		// Act and Assert
+		assertThatThrownBy(() -> JwtKeys.signingKey(JWSAlgorithm.ES256, publicPem(keyPair), privatePem(keyPair)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static String sign(JWK signingKey) {
+		var algorithm = JWSAlgorithm.parse(signingKey.getAlgorithm().getName());
+		var claims = JwtClaimsSet.builder()
+				.subject("test")
+				.issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(60))
+				.build();
+		var header = JwsHeader.with(JwtKeys.jwsAlgorithm(algorithm)).build();
+
+		return JwtKeys.encoder(signingKey).encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+	}
+
+	private static KeyPair keyPair(JWSAlgorithm algorithm) throws Exception {
+		if (JWSAlgorithm.RS256.equals(algorithm)) {
+			var generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return generator.generateKeyPair();
+		}
+
+		if (JWSAlgorithm.ES256.equals(algorithm)) {
+			var generator = KeyPairGenerator.getInstance("EC");
+			generator.initialize(new ECGenParameterSpec("secp256r1"));
+			return generator.generateKeyPair();
+		}
+
+		return KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+	}
+
+	private static Resource publicPem(KeyPair keyPair) {
+		return pem("PUBLIC KEY", keyPair.getPublic().getEncoded());
+	}
+
+	private static Resource privatePem(KeyPair keyPair) {
+		return pem("PRIVATE KEY", keyPair.getPrivate().getEncoded());
+	}
+
+	private static Resource pem(String type, byte[] encoded) {
+		var body = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII)).encodeToString(encoded);
+		var pem = "-----BEGIN " + type + "-----\n" + body + "\n-----END " + type + "-----\n";
+
+		return new ByteArrayResource(pem.getBytes(StandardCharsets.US_ASCII));
+	}
+}
@@ -0,0 +1,62 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.configuration.MetricsConfig;
+import br.unb.garage_relation.security.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class JwtServiceMetricsTests {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final JwtDecoder decoder = mock(JwtDecoder.class);
+	private JwtService jwtService;
+
+	@BeforeEach
+	public void setUp() {
+		var proxyFactory = new AspectJProxyFactory(new JwtService(mock(JwtEncoder.class), decoder));
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAspect(new MetricsConfig().timedAspect(meterRegistry));
+		jwtService = proxyFactory.getProxy();
+	}
+
+	@Test
+	public void decode__withValidToken__recordsTimer() {
+		// Arrange
+		when(decoder.decode(anyString())).thenReturn(Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.subject("test")
+				.issuedAt(Instant.now())
+				.build());
+
+		// Act
+		jwtService.decode("token");
+
+		// Assert
+		var timer = meterRegistry.get("jwt").tag("operation", "decode").tag("exception", "none").timer();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+
+	@Test
+	public void decode__withInvalidToken__recordsTimerWithException() {
+		// Arrange
+		when(decoder.decode(anyString())).thenThrow(new BadJwtException("invalid"));
+
+		// Act and Assert
+		assertThatThrownBy(() -> jwtService.decode("token")).isInstanceOf(BadJwtException.class);
+		var timer = meterRegistry.get("jwt").tag("operation", "decode").tag("exception", "BadJwtException").timer();
+		assertThat(timer.count()).isEqualTo(1);
+	}
+}
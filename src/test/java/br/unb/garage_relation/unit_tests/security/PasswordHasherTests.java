@@ -0,0 +1,85 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.exception.ServiceOverloadedException;
+import br.unb.garage_relation.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHasherTests {
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch release = new CountDownLatch(1);
+	private final CountDownLatch started = new CountDownLatch(1);
+	private PasswordHasher passwordHasher;
+
+	@AfterEach
+	public void tearDown() {
+		release.countDown();
+		passwordHasher.destroy();
+	}
+
+	@Test
+	public void matches__withFreeCapacity__delegatesAndRecordsLatency() {
+		// Arrange
+		release.countDown();
+		passwordHasher = new PasswordHasher(new BlockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(1));
+
+		// Act
+		var result = passwordHasher.matches("password", "hash:password");
+
+		// Assert
+		assertThat(result).isTrue();
+		assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void encode__withFullQueue__rejectsImmediately() throws InterruptedException {
+		// Arrange
+		passwordHasher = new PasswordHasher(new BlockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(2));
+		CompletableFuture.runAsync(() -> passwordHasher.encode("running"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture.runAsync(() -> passwordHasher.encode("queued"));
+		waitForQueuedTask();
+
+		// Act and Assert
+		assertThatThrownBy(() -> passwordHasher.encode("rejected"))
+				.isInstanceOf(ServiceOverloadedException.class)
+				.extracting("retryAfter").isEqualTo(Duration.ofSeconds(2));
+		assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value()).isEqualTo(1);
+	}
+
+	private void waitForQueuedTask() throws InterruptedException {
+		var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get("executor.queued").gauge().value() < 1 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private class BlockingEncoder implements PasswordEncoder {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			started.countDown();
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return "hash:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encode(rawPassword).equals(encodedPassword);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.RateLimitFilter;
+import br.unb.garage_relation.security.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTests {
+	private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+	@Test
+	public void tryAcquire__withinBurst__allowsThenRejectsUntilATokenIsEarned() {
+		// Arrange
+		var rateLimiter = new RateLimiter(10, 3, 100, Duration.ofMinutes(1), now::get);
+
+		// Act
+		var first = rateLimiter.tryAcquire("a");
+		var second = rateLimiter.tryAcquire("a");
+		var third = rateLimiter.tryAcquire("a");
+		var fourth = rateLimiter.tryAcquire("a");
+		now.addAndGet(Duration.ofMillis(100).toNanos());
+		var afterOneInterval = rateLimiter.tryAcquire("a");
+
+		// Assert
+		assertThat(first).isEqualTo(RateLimiter.ALLOWED);
+		assertThat(second).isEqualTo(RateLimiter.ALLOWED);
+		assertThat(third).isEqualTo(RateLimiter.ALLOWED);
+		assertThat(fourth).isEqualTo(Duration.ofMillis(100).toNanos());
+		assertThat(afterOneInterval).isEqualTo(RateLimiter.ALLOWED);
+	}
+
+	@Test
+	public void tryAcquire__withDifferentKeys__keepsSeparateBuckets() {
+		// Arrange
+		var rateLimiter = new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get);
+		rateLimiter.tryAcquire("a");
+
+		// Act
+		var other = rateLimiter.tryAcquire("b");
+		var same = rateLimiter.tryAcquire("a");
+
+		// Assert
+		assertThat(other).isEqualTo(RateLimiter.ALLOWED);
+		assertThat(same).isPositive();
+	}
+
+	@Test
+	public void tryAcquire__afterIdleTimeout__evictsTheKey() {
+		// Arrange
+		var rateLimiter = new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get);
+		rateLimiter.tryAcquire("a");
+
+		// Act
+		now.addAndGet(Duration.ofMinutes(2).toNanos());
+		rateLimiter.tryAcquire("b");
+
+		// Assert
+		assertThat(rateLimiter.estimatedSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void doFilter__withExhaustedApiBucket__returns429WithRetryAfter() throws Exception {
+		// Arrange
+		var meterRegistry = new SimpleMeterRegistry();
+		var filter = new RateLimitFilter(
+				new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get),
+				new RateLimiter(0.5, 1, 100, Duration.ofMinutes(1), now::get),
+				meterRegistry
+		);
+		filter.doFilter(apiRequest(), new MockHttpServletResponse(), new MockFilterChain());
+		var response = new MockHttpServletResponse();
+		var chain = new MockFilterChain();
+
+		// Act
+		filter.doFilter(apiRequest(), response, chain);
+
+		// Assert
+		assertThat(response.getStatus()).isEqualTo(429);
+		assertThat(response.getHeader("Retry-After")).isEqualTo("2");
+		assertThat(chain.getRequest()).isNull();
+		assertThat(meterRegistry.get("rate.limit.rejected").tag("group", "api").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void doFilter__withOtherPath__isNotLimited() throws Exception {
+		// Arrange
+		var filter = new RateLimitFilter(
+				new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get),
+				new RateLimiter(1, 1, 100, Duration.ofMinutes(1), now::get),
+				new SimpleMeterRegistry()
+		);
+		var request = new MockHttpServletRequest("GET", "/swagger-ui/index.html");
+
+		// Act
+		for (int i = 0; i < 5; i++) {
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		}
+		var response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+
+		// Assert
+		assertThat(response.getStatus()).isEqualTo(200);
+	}
+
+	private static MockHttpServletRequest apiRequest() {
+		return new MockHttpServletRequest("GET", "/api/v1/car");
+	}
+}
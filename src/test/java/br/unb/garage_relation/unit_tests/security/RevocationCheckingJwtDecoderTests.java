@@ -0,0 +1,54 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.RevocationCheckingJwtDecoder;
+import br.unb.garage_relation.security.TokenRevocationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+public class RevocationCheckingJwtDecoderTests {
+	private final JwtDecoder delegate = Mockito.mock(JwtDecoder.class);
+	private final TokenRevocationService tokenRevocationService = Mockito.mock(TokenRevocationService.class);
+	private final RevocationCheckingJwtDecoder decoder = new RevocationCheckingJwtDecoder(delegate, tokenRevocationService);
+
+	@Test
+	public void decode__withRevokedToken__throwsBadJwtException() {
+		// Arrange
+		var jwt = jwt();
+		when(delegate.decode("token")).thenReturn(jwt);
+		when(tokenRevocationService.isRevoked(jwt)).thenReturn(true);
+
+		// Act and Assert
+		assertThatThrownBy(() -> decoder.decode("token")).isInstanceOf(BadJwtException.class);
+	}
+
+	@Test
+	public void decode__withValidToken__returnsIt() {
+		// Arrange
+		var jwt = jwt();
+		when(delegate.decode("token")).thenReturn(jwt);
+
+		// Act
+		var result = decoder.decode("token");
+
+		// Assert
+		assertThat(result).isSameAs(jwt);
+	}
+
+	private static Jwt jwt() {
+		return Jwt.withTokenValue("token")
+				.header("alg", "RS256")
+				.jti("id")
+				.subject("test")
+				.expiresAt(Instant.now().plusSeconds(60))
+				.build();
+	}
+}
@@ -0,0 +1,47 @@
+package br.unb.garage_relation.unit_tests.security;
+
+import br.unb.garage_relation.security.TokenDenylist;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenDenylistTests {
+	private final Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+	@Test
+	public void isRevoked__withRevokedAndUnknownIds__answersExactly() {
+		// Arrange
+		var denylist = new TokenDenylist();
+		var revoked = UUID.randomUUID().toString();
+		denylist.revoke(revoked, now.plusSeconds(60));
+
+		// Act
+		var revokedResult = denylist.isRevoked(revoked);
+		var unknownResult = denylist.isRevoked(UUID.randomUUID().toString());
+		var nullResult = denylist.isRevoked(null);
+
+		// Assert
+		assertThat(revokedResult).isTrue();
+		assertThat(unknownResult).isFalse();
+		assertThat(nullResult).isFalse();
+	}
+
+	@Test
+	public void prune__withExpiredIds__forgetsOnlyThose() {
+		// Arrange
+		var denylist = new TokenDenylist();
+		denylist.revoke("expired", now.minusSeconds(1));
+		denylist.revoke("valid", now.plusSeconds(60));
+
+		// Act
+		denylist.prune(now);
+
+		// Assert
+		assertThat(denylist.isRevoked("expired")).isFalse();
+		assertThat(denylist.isRevoked("valid")).isTrue();
+		assertThat(denylist.size()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,54 @@
+package br.unb.garage_relation.unit_tests.serialization;
+
+import br.unb.garage_relation.serialization.csv.Csv;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CsvTests {
+	@Test
+	public void readRecord__withQuotedFields__unescapesThem() throws Exception {
+		// Arrange
+		var reader = new BufferedReader(new StringReader("1,\"Uno, \"\"Mille\"\"\",\"Fi\r\nat\",2010\r\n2,Gol,,2018"));
+
+		// Act
+		var first = Csv.readRecord(reader);
+		var second = Csv.readRecord(reader);
+		var end = Csv.readRecord(reader);
+
+		// Assert
+		assertThat(first).containsExactly("1", "Uno, \"Mille\"", "Fi\r\nat", "2010");
+		assertThat(second).containsExactly("2", "Gol", "", "2018");
+		assertThat(end).isNull();
+	}
+
+	@Test
+	public void readRecord__withEscapedValues__readsBackWhatEscapeWrote() throws Exception {
+		// Arrange
+		var values = new String[]{"plain", "with,separator", "with \"quotes\"", "with\nnewline"};
+		var line = new StringBuilder();
+
+		for (var value : values) {
+			line.append(line.isEmpty() ? "" : Csv.SEPARATOR).append(Csv.escape(value));
+		}
+
+		// Act
+		var result = Csv.readRecord(new BufferedReader(new StringReader(line + Csv.LINE_SEPARATOR)));
+
+		// Assert
+		assertThat(result).containsExactly(values);
+	}
+
+	@Test
+	public void readRecord__withUnterminatedQuoteOverTheLimit__throwsIllegalArgumentException() {
+		// Arrange
+		var reader = new BufferedReader(new StringReader("\"" + "a".repeat(Csv.MAX_RECORD_LENGTH)));
+
+		// Act and Assert
+		assertThatThrownBy(() -> Csv.readRecord(reader)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
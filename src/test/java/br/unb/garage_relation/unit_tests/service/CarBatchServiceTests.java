@@ -0,0 +1,125 @@
+package br.unb.garage_relation.unit_tests.service;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.request.CarBatchUpdateDTO;
+import br.unb.garage_relation.model.dto.request.CarCreateDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.service.AuthService;
+import br.unb.garage_relation.service.CarBatchService;
+import br.unb.garage_relation.service.CarStatisticsService;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static br.unb.garage_relation.Constants.MAX_BATCH_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CarBatchServiceTests {
+	private final User owner = new User(1L, "owner", "password", "owner@email.com", "Owner");
+	private CarRepository carRepository;
+	private CarStatisticsService carStatisticsService;
+	private CarBatchService carBatchService;
+
+	@BeforeEach
+	public void setUp() {
+		carRepository = Mockito.mock(CarRepository.class);
+		carStatisticsService = Mockito.mock(CarStatisticsService.class);
+		var authService = Mockito.mock(AuthService.class);
+		var validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+		when(authService.getAuthenticatedUser()).thenReturn(owner);
+
+		carBatchService = new CarBatchService(
+				carRepository,
+				new CarMapper(new ControllerLinks()),
+				authService,
+				carStatisticsService,
+				validator
+		);
+	}
+
+	@Test
+	public void create__withOneInvalidItem__savesTheOthersAndReportsEachItem() {
+		// Arrange
+		var items = List.of(
+				new CarCreateDTO("Fiesta", "Ford", 2010, 1L, null),
+				new CarCreateDTO("Civic", "Honda", 1500, 1L, null),
+				new CarCreateDTO("Gol", "Volkswagen", 2018, 1L, null)
+		);
+
+		// Act
+		var results = carBatchService.create(items);
+
+		// Assert
+		assertThat(results).extracting("index").containsExactly(0, 1, 2);
+		assertThat(results).extracting("status").containsExactly(201, 400, 201);
+		assertThat(results.get(1).error()).startsWith("year:");
+		verify(carRepository).saveAll(Mockito.<List<Car>>argThat(cars -> cars.size() == 2));
+		verify(carRepository, times(1)).flush();
+	}
+
+	@Test
+	public void update__withMissingCar__reportsNotFoundForThatItem() {
+		// Arrange
+		var car = new Car(1L, "Fiesta", "Ford", 2010, owner);
+		when(carRepository.findAllById(anyList())).thenReturn(List.of(car));
+
+		var items = List.of(
+				new CarBatchUpdateDTO(1L, null, null, 2012),
+				new CarBatchUpdateDTO(2L, "Civic", null, null)
+		);
+
+		// Act
+		var results = carBatchService.update(items);
+
+		// Assert
+		assertThat(results).extracting("status").containsExactly(200, 404);
+		assertThat(results.get(0).car().year()).isEqualTo(2012);
+		assertThat(car.getYear()).isEqualTo(2012);
+		verify(carStatisticsService).record(Map.of(
+				new CarBucket(1L, "Ford", "Fiesta", 2010), -1L,
+				new CarBucket(1L, "Ford", "Fiesta", 2012), 1L
+		));
+	}
+
+	@Test
+	public void delete__withMissingAndNullIds__deletesOnlyExistingCars() {
+		// Arrange
+		var ids = new ArrayList<Long>(List.of(1L, 2L));
+		ids.add(null);
+		when(carRepository.findAllById(anyList())).thenReturn(List.of(new Car(1L, "Fiesta", "Ford", 2010, owner)));
+
+		// Act
+		var results = carBatchService.delete(ids);
+
+		// Assert
+		assertThat(results).extracting("status").containsExactly(204, 404, 400);
+		verify(carRepository).deleteAllByIdInBatch(Set.of(1L));
+		verify(carStatisticsService).record(Map.of(new CarBucket(1L, "Ford", "Fiesta", 2010), -1L));
+	}
+
+	@Test
+	public void create__withTooManyItems__throwsIllegalArgumentException() {
+		// Arrange
+		var items = Collections.nCopies(MAX_BATCH_SIZE + 1, new CarCreateDTO("Fiesta", "Ford", 2010, 1L, null));
+
+		// Act and Assert
+		assertThatThrownBy(() -> carBatchService.create(items)).isInstanceOf(IllegalArgumentException.class);
+	}
+}
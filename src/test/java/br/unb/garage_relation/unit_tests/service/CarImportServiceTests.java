@@ -0,0 +1,185 @@
+package br.unb.garage_relation.unit_tests.service;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.repository.CarRepository;
+import br.unb.garage_relation.serialization.csv.Csv;
+import br.unb.garage_relation.service.AuthService;
+import br.unb.garage_relation.service.CarExportService;
+import br.unb.garage_relation.service.CarImportService;
+import br.unb.garage_relation.service.CarStatisticsService;
+import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.util.List;
+
+import static br.unb.garage_relation.Constants.IMPORT_CHUNK_SIZE;
+import static br.unb.garage_relation.Constants.MAX_IMPORT_ERRORS;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CarImportServiceTests {
+	private final User owner = new User(1L, "owner", "password", "owner@email.com", "Owner");
+	private CarRepository carRepository;
+	private CarStatisticsService carStatisticsService;
+	private EntityManager entityManager;
+	private CarImportService carImportService;
+
+	@BeforeEach
+	public void setUp() {
+		carRepository = Mockito.mock(CarRepository.class);
+		carStatisticsService = Mockito.mock(CarStatisticsService.class);
+		entityManager = Mockito.mock(EntityManager.class);
+		var authService = Mockito.mock(AuthService.class);
+
+		when(authService.getAuthenticatedUser()).thenReturn(owner);
+
+		carImportService = new CarImportService(
+				carRepository,
+				new CarMapper(new ControllerLinks()),
+				authService,
+				carStatisticsService,
+				Validation.buildDefaultValidatorFactory().getValidator(),
+				entityManager,
+				Mockito.mock(PlatformTransactionManager.class),
+				new ObjectMapper()
+		);
+	}
+
+	@Test
+	public void importCars__withCsvRowsInAnyColumnOrder__importsValidRowsAndReportsTheOthers() throws Exception {
+		// Arrange
+		var csv = """
+				id,year,brand,model
+				7,2010,Ford,Fiesta
+				8,1500,Honda,Civic
+				9,new,Fiat,Uno
+				10,2018,Volkswagen
+
+				11,2019,"Fiat, S.p.A.",Uno
+				""";
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.CSV, input(csv));
+
+		// Assert
+		assertThat(result.rows()).isEqualTo(5);
+		assertThat(result.imported()).isEqualTo(2);
+		assertThat(result.failed()).isEqualTo(3);
+		assertThat(result.errors()).extracting("index").containsExactly(1, 2, 3);
+		assertThat(result.errors()).extracting("status").containsOnly(400);
+		assertThat(result.errors().get(0).error()).startsWith("year:");
+		verify(carRepository).saveAll(Mockito.<List<Car>>argThat(cars -> cars.size() == 2
+				&& cars.get(1).getBrand().equals("Fiat, S.p.A.")
+				&& cars.stream().allMatch(car -> car.getOwner() == owner)));
+		verify(carStatisticsService).record(anyMap());
+		verify(entityManager).clear();
+	}
+
+	@Test
+	public void importCars__withNdjsonRows__importsValidRowsAndReportsTheOthers() throws Exception {
+		// Arrange
+		var ndjson = """
+				{"model":"Fiesta","brand":"Ford","year":2010}
+				{"model":"Civic","brand":"Honda"
+				{"model":"Gol","brand":"Volkswagen","year":2018,"ownerId":99}
+				""";
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.NDJSON, input(ndjson));
+
+		// Assert
+		assertThat(result.imported()).isEqualTo(2);
+		assertThat(result.errors()).extracting("index").containsExactly(1);
+		assertThat(result.errors().get(0).error()).startsWith("invalid JSON");
+	}
+
+	@Test
+	public void importCars__withOverlongNdjsonLine__reportsItAndReadsTheNextLines() throws Exception {
+		// Arrange
+		var ndjson = "{\"model\":\"" + "a".repeat(Csv.MAX_RECORD_LENGTH) + "\"}\n"
+				+ "{\"model\":\"Gol\",\"brand\":\"Volkswagen\",\"year\":2018}\r\n";
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.NDJSON, input(ndjson));
+
+		// Assert
+		assertThat(result.imported()).isEqualTo(1);
+		assertThat(result.errors()).extracting("index").containsExactly(0);
+		assertThat(result.errors().get(0).error()).startsWith("line is longer than");
+	}
+
+	@Test
+	public void importCars__withMoreRowsThanAChunk__savesOneTransactionPerChunk() throws Exception {
+		// Arrange
+		var csv = new StringBuilder("model,brand,year\n");
+		var rows = IMPORT_CHUNK_SIZE * 2 + 1;
+		csv.append("Uno,Fiat,2010\n".repeat(rows));
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.CSV, input(csv.toString()));
+
+		// Assert
+		assertThat(result.imported()).isEqualTo(rows);
+		verify(carRepository, times(3)).saveAll(anyList());
+		verify(carStatisticsService, times(3)).record(anyMap());
+		verify(entityManager, times(3)).clear();
+	}
+
+	@Test
+	public void importCars__withMoreErrorsThanTheLimit__countsAllButDetailsTheFirstOnes() throws Exception {
+		// Arrange
+		var csv = "model,brand,year\n" + "Uno,Fiat,1500\n".repeat(MAX_IMPORT_ERRORS + 10);
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.CSV, input(csv));
+
+		// Assert
+		assertThat(result.failed()).isEqualTo(MAX_IMPORT_ERRORS + 10);
+		assertThat(result.errors()).hasSize(MAX_IMPORT_ERRORS);
+	}
+
+	@Test
+	public void importCars__whenAChunkFailsToSave__reportsItsRowsAndContinues() throws Exception {
+		// Arrange
+		var csv = "model,brand,year\n" + "Uno,Fiat,2010\n".repeat(IMPORT_CHUNK_SIZE + 1);
+		doThrow(new DataIntegrityViolationException("duplicate"))
+				.doNothing()
+				.when(carRepository).flush();
+
+		// Act
+		var result = carImportService.importCars(CarExportService.Format.CSV, input(csv));
+
+		// Assert
+		assertThat(result.imported()).isEqualTo(1);
+		assertThat(result.failed()).isEqualTo(IMPORT_CHUNK_SIZE);
+		assertThat(result.errors()).extracting("status").containsOnly(500);
+	}
+
+	@Test
+	public void importCars__withCsvMissingAColumn__throwsIllegalArgumentException() {
+		// Act and Assert
+		assertThatThrownBy(() -> carImportService.importCars(CarExportService.Format.CSV, input("model,brand\nUno,Fiat\n")))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static ByteArrayInputStream input(String content) {
+		return new ByteArrayInputStream(content.getBytes(UTF_8));
+	}
+}
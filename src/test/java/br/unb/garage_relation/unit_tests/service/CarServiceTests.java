@@ -7,20 +7,27 @@ import br.unb.garage_relation.model.User;
 import br.unb.garage_relation.model.dto.request.CarCreateDTO;
 import br.unb.garage_relation.model.dto.request.CarPartialUpdateDTO;
 import br.unb.garage_relation.model.dto.request.CarUpdateDTO;
+import br.unb.garage_relation.model.dto.response.CarResponseDTO;
 import br.unb.garage_relation.repository.CarRepository;
 import br.unb.garage_relation.service.AuthService;
 import br.unb.garage_relation.service.CarService;
+import br.unb.garage_relation.service.CarStatisticsService;
 import br.unb.garage_relation.service.mapper.CarMapper;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.authentication.BadCredentialsException;
 
 import java.util.List;
 import java.util.Optional;
 
+import static br.unb.garage_relation.Constants.DEFAULT_PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +38,7 @@ import static org.mockito.Mockito.when;
 @SpringBootTest
 public class CarServiceTests {
 	@Spy
-	private CarMapper carMapper;
+	private CarMapper carMapper = new CarMapper(new ControllerLinks());
 
 	@Mock
 	private CarRepository carRepository;
@@ -39,6 +46,9 @@ public class CarServiceTests {
 	@Mock
 	private AuthService authService;
 
+	@Mock
+	private CarStatisticsService carStatisticsService;
+
 	@InjectMocks
 	private CarService carService;
 
@@ -46,17 +56,18 @@ public class CarServiceTests {
 	public void findAllCars__withFourCars__shouldReturnFourCars() {
 		// Arrange
 		var cars = List.of(
-				new Car(1L, "Fiesta", "Ford", 2010),
-				new Car(2L, "Civic", "Honda", 2015),
-				new Car(3L, "Gol", "Volkswagen", 2018),
-				new Car(4L, "Uno", "Fiat", 2019)
+				new CarResponseDTO(1L, "Fiesta", "Ford", 2010),
+				new CarResponseDTO(2L, "Civic", "Honda", 2015),
+				new CarResponseDTO(3L, "Gol", "Volkswagen", 2018),
+				new CarResponseDTO(4L, "Uno", "Fiat", 2019)
 		);
 
-		var carsDto = carMapper.toCollectionModel(cars);
+		var page = new SliceImpl<>(cars, PageRequest.ofSize(DEFAULT_PAGE_SIZE), false);
+		var carsDto = carMapper.toCollectionModel(page, null);
 
-		when(carRepository.findAll()).thenReturn(cars);
+		when(carRepository.findResponsesAfter(anyLong(), any(Pageable.class))).thenReturn(page);
 		// Act
-		var result = carService.findAll();
+		var result = carService.findAll(null, null);
 
 		// Assert
 		assertThat(result).isEqualTo(carsDto);
@@ -65,11 +76,11 @@ public class CarServiceTests {
 	@Test
 	public void findAllCars__withNoCars__shouldReturnEmptyList() {
 		// Arrange
-		List<Car> cars = List.of();
+		var page = new SliceImpl<CarResponseDTO>(List.of(), PageRequest.ofSize(DEFAULT_PAGE_SIZE), false);
 
-		when(carRepository.findAll()).thenReturn(cars);
+		when(carRepository.findResponsesAfter(anyLong(), any(Pageable.class))).thenReturn(page);
 		// Act
-		var result = carService.findAll();
+		var result = carService.findAll(null, null);
 
 		// Assert
 		assertThat(result).isEmpty();
@@ -78,10 +89,10 @@ public class CarServiceTests {
 	@Test
 	public void findCarById__withValidId__shouldReturnCar() throws RegisterNotFoundException {
 		// Arrange
-		var car = new Car(1L, "Fiesta", "Ford", 2010);
+		var car = new CarResponseDTO(1L, "Fiesta", "Ford", 2010);
 		var carDto = carMapper.toModel(car);
 
-		when(carRepository.findById(anyLong())).thenReturn(Optional.of(car));
+		when(carRepository.findResponseById(anyLong())).thenReturn(Optional.of(car));
 		// Act
 		var result = carService.findById(1L);
 
@@ -92,7 +103,7 @@ public class CarServiceTests {
 	@Test
 	public void findCarById__withInvalidId__shouldThrowsRegisterNotFoundException() {
 		// Arrange
-		when(carRepository.findById(anyLong())).thenReturn(Optional.empty());
+		when(carRepository.findResponseById(anyLong())).thenReturn(Optional.empty());
 
 		// Act and Assert
 		assertThatThrownBy(
@@ -106,24 +117,20 @@ public class CarServiceTests {
 		var car = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carCreateDto = new CarCreateDTO(
 				car.getModel(),
 				car.getBrand(),
-				car.getYear()
+				car.getYear(),
+				1L,
+				null
 		);
 		var carDto = carMapper.toModel(car);
 
 		when(carRepository.save(any(Car.class))).thenReturn(car);
-		when(authService.getAuthenticatedUser()).thenReturn(
-				new User(1L,
-						"username",
-						"password",
-						"email@email.com",
-						"full name"
-				)
-		);
+		when(authService.getAuthenticatedUser()).thenReturn(owner());
 		// Act
 		var result = carService.create(carCreateDto);
 
@@ -137,17 +144,12 @@ public class CarServiceTests {
 		var carCreateDto = new CarCreateDTO(
 				"FIAT",
 				"UNO",
-				1500
+				1500,
+				1L,
+				null
 		);
 
-		when(authService.getAuthenticatedUser()).thenReturn(
-				new User(1L,
-						"username",
-						"password",
-						"email@email.com",
-						"full name"
-				)
-		);
+		when(authService.getAuthenticatedUser()).thenReturn(owner());
 
 		doThrow(RuntimeException.class).when(carRepository).save(any(Car.class));
 
@@ -163,12 +165,15 @@ public class CarServiceTests {
 		var car = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carCreateDto = new CarCreateDTO(
 				car.getModel(),
 				car.getBrand(),
-				car.getYear()
+				car.getYear(),
+				1L,
+				null
 		);
 
 		when(carRepository.save(any(Car.class))).thenReturn(car);
@@ -186,7 +191,8 @@ public class CarServiceTests {
 		var originalCar = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carUpdateDTO = new CarUpdateDTO(
 				originalCar.getModel(),
@@ -200,7 +206,7 @@ public class CarServiceTests {
 		when(carRepository.save(updatedCar)).thenReturn(updatedCar);
 
 		// Act
-		var result = carService.update(1L, carUpdateDTO);
+		var result = carService.update(1L, carUpdateDTO, null);
 
 		// Assert
 		assertThat(result).isEqualTo(updatedCarDto);
@@ -219,7 +225,7 @@ public class CarServiceTests {
 
 		// Act and Assert
 		assertThatThrownBy(
-				() -> carService.update(1L, carUpdateDTO)
+				() -> carService.update(1L, carUpdateDTO, null)
 		).isInstanceOf(RegisterNotFoundException.class);
 	}
 
@@ -229,7 +235,8 @@ public class CarServiceTests {
 		var originalCar = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carUpdateDTO = new CarUpdateDTO(
 				originalCar.getModel(),
@@ -242,7 +249,7 @@ public class CarServiceTests {
 
 		// Act and Assert
 		assertThatThrownBy(
-				() -> carService.update(1L, carUpdateDTO)
+				() -> carService.update(1L, carUpdateDTO, null)
 		).isInstanceOf(DatabaseOperationException.class);
 	}
 
@@ -252,7 +259,8 @@ public class CarServiceTests {
 		var originalCar = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carPartialUpdateDTO = new CarPartialUpdateDTO(
 				originalCar.getModel(),
@@ -266,7 +274,7 @@ public class CarServiceTests {
 		when(carRepository.save(updatedCar)).thenReturn(updatedCar);
 
 		// Act
-		var result = carService.partialUpdate(1L, carPartialUpdateDTO);
+		var result = carService.partialUpdate(1L, carPartialUpdateDTO, null);
 
 		// Assert
 		assertThat(result).isEqualTo(updatedCarDto);
@@ -285,7 +293,7 @@ public class CarServiceTests {
 
 		// Act and Assert
 		assertThatThrownBy(
-				() -> carService.partialUpdate(1L, carPartialUpdateDTO)
+				() -> carService.partialUpdate(1L, carPartialUpdateDTO, null)
 		).isInstanceOf(RegisterNotFoundException.class);
 	}
 
@@ -295,7 +303,8 @@ public class CarServiceTests {
 		var originalCar = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 		var carPartialUpdateDTO = new CarPartialUpdateDTO(
 				null,
@@ -308,7 +317,7 @@ public class CarServiceTests {
 
 		// Act and Assert
 		assertThatThrownBy(
-				() -> carService.partialUpdate(1L, carPartialUpdateDTO)
+				() -> carService.partialUpdate(1L, carPartialUpdateDTO, null)
 		).isInstanceOf(DatabaseOperationException.class);
 	}
 
@@ -318,7 +327,8 @@ public class CarServiceTests {
 		var car = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 
 		when(carRepository.findById(anyLong())).thenReturn(Optional.of(car));
@@ -344,7 +354,8 @@ public class CarServiceTests {
 		var car = new Car(
 				"Fiesta",
 				"Ford",
-				2010
+				2010,
+				owner()
 		);
 
 		when(carRepository.findById(anyLong())).thenReturn(Optional.of(car));
@@ -355,4 +366,14 @@ public class CarServiceTests {
 				() -> carService.delete(1L)
 		).isInstanceOf(DatabaseOperationException.class);
 	}
+
+	private static User owner() {
+		return new User(
+				1L,
+				"username",
+				"password",
+				"email@email.com",
+				"full name"
+		);
+	}
 }
@@ -0,0 +1,126 @@
+package br.unb.garage_relation.unit_tests.service;
+
+import br.unb.garage_relation.model.Car;
+import br.unb.garage_relation.model.User;
+import br.unb.garage_relation.model.dto.response.CarStatisticsBucketDTO;
+import br.unb.garage_relation.model.projection.CarBucket;
+import br.unb.garage_relation.repository.CarStatisticsRepository;
+import br.unb.garage_relation.service.CarStatisticsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class CarStatisticsServiceTests {
+	private final User owner = new User(7L, "owner", "password", "owner@email.com", "Owner");
+	private CarStatisticsRepository carStatisticsRepository;
+	private CarStatisticsService carStatisticsService;
+
+	@BeforeEach
+	public void setUp() {
+		carStatisticsRepository = Mockito.mock(CarStatisticsRepository.class);
+		carStatisticsService = new CarStatisticsService(carStatisticsRepository);
+	}
+
+	@Test
+	public void changed__withSameBucket__writesNothing() {
+		// Arrange
+		var car = new Car(1L, "Fiesta", "Ford", 2010, owner);
+
+		// Act
+		carStatisticsService.changed(CarBucket.of(car), car);
+
+		// Assert
+		verifyNoInteractions(carStatisticsRepository);
+	}
+
+	@Test
+	public void changed__withNewYear__movesOneCarBetweenBuckets() {
+		// Arrange
+		var car = new Car(1L, "Fiesta", "Ford", 2010, owner);
+		var before = CarBucket.of(car);
+		car.setYear(2012);
+
+		// Act
+		carStatisticsService.changed(before, car);
+
+		// Assert
+		verify(carStatisticsRepository).add(7L, "Ford", "Fiesta", 2010, -1L);
+		verify(carStatisticsRepository).add(7L, "Ford", "Fiesta", 2012, 1L);
+		verify(carStatisticsRepository).add(0L, "Ford", "Fiesta", 2010, -1L);
+		verify(carStatisticsRepository).add(0L, "Ford", "Fiesta", 2012, 1L);
+	}
+
+	@Test
+	public void record__withSeveralBuckets__skipsZeroDeltasAndWritesInLockOrder() {
+		// Arrange
+		var deltas = Map.of(
+				new CarBucket(7L, "Volkswagen", "Gol", 2013), 2L,
+				new CarBucket(7L, "Fiat", "Uno", 2015), 0L,
+				new CarBucket(7L, "Ford", "Fiesta", 2010), -1L
+		);
+
+		// Act
+		carStatisticsService.record(deltas);
+
+		// Assert
+		InOrder inOrder = inOrder(carStatisticsRepository);
+		inOrder.verify(carStatisticsRepository).add(7L, "Ford", "Fiesta", 2010, -1L);
+		inOrder.verify(carStatisticsRepository).add(7L, "Volkswagen", "Gol", 2013, 2L);
+		inOrder.verify(carStatisticsRepository).add(0L, "Ford", "Fiesta", 2010, -1L);
+		inOrder.verify(carStatisticsRepository).add(0L, "Volkswagen", "Gol", 2013, 2L);
+		verifyNoMoreInteractions(carStatisticsRepository);
+	}
+
+	@Test
+	public void record__withSeveralOwnersInOneBucket__writesOwnerBucketsBeforeTheSummedGlobalBucket() {
+		// Arrange
+		var deltas = Map.of(
+				new CarBucket(9L, "Ford", "Fiesta", 2010), 1L,
+				new CarBucket(7L, "Ford", "Fiesta", 2010), 2L
+		);
+
+		// Act
+		carStatisticsService.record(deltas);
+
+		// Assert
+		InOrder inOrder = inOrder(carStatisticsRepository);
+		inOrder.verify(carStatisticsRepository).add(7L, "Ford", "Fiesta", 2010, 2L);
+		inOrder.verify(carStatisticsRepository).add(9L, "Ford", "Fiesta", 2010, 1L);
+		inOrder.verify(carStatisticsRepository).add(0L, "Ford", "Fiesta", 2010, 3L);
+		verifyNoMoreInteractions(carStatisticsRepository);
+	}
+
+	@Test
+	public void find__withoutOwner__readsGlobalBucketsAndSumsTotal() {
+		// Arrange
+		when(carStatisticsRepository.countByYear(0L)).thenReturn(List.of(
+				new CarStatisticsBucketDTO("2010", 3L),
+				new CarStatisticsBucketDTO("2012", 2L)
+		));
+
+		// Act
+		var result = carStatisticsService.find("YEAR", null);
+
+		// Assert
+		assertThat(result.groupBy()).isEqualTo("year");
+		assertThat(result.ownerId()).isNull();
+		assertThat(result.total()).isEqualTo(5L);
+		assertThat(result.buckets()).hasSize(2);
+	}
+
+	@Test
+	public void find__withUnknownGroup__throwsIllegalArgumentException() {
+		// Act and Assert
+		assertThatThrownBy(() -> carStatisticsService.find("color", null)).isInstanceOf(IllegalArgumentException.class);
+		verify(carStatisticsRepository, never()).countByBrand(anyLong());
+	}
+}
@@ -25,7 +25,8 @@ public class CarMapperTests {
 		var car = new Car(
 				"Uno",
 				"Fiat",
-				2010
+				2010,
+				null
 		);
 		car.setId(1L);
 
@@ -45,7 +46,9 @@ public class CarMapperTests {
 		var dto = new CarCreateDTO(
 				"Uno",
 				"Fiat",
-				2010
+				2010,
+				1L,
+				null
 		);
 
 		// Act
@@ -64,7 +67,8 @@ public class CarMapperTests {
 		var car = new Car(
 				"Uno",
 				"Fiat",
-				2010
+				2010,
+				null
 		);
 		car.setId(1L);
 
@@ -90,7 +94,8 @@ public class CarMapperTests {
 		var car = new Car(
 				"Uno",
 				"Fiat",
-				2010
+				2010,
+				null
 		);
 		car.setId(1L);
 
@@ -116,7 +121,8 @@ public class CarMapperTests {
 		var car = new Car(
 				"Uno",
 				"Fiat",
-				2010
+				2010,
+				null
 		);
 		car.setId(1L);
 
@@ -143,13 +149,15 @@ public class CarMapperTests {
 						1L,
 						"Uno",
 						"Fiat",
-						2010
+						2010,
+						null
 				),
 				new Car(
 						2L,
 						"Celta",
 						"Chevrolet",
-						2015
+						2015,
+						null
 				)
 		);
 
@@ -0,0 +1,59 @@
+package br.unb.garage_relation.unit_tests.service.mapper;
+
+import br.unb.garage_relation.controller.CarController;
+import br.unb.garage_relation.controller.UserController;
+import br.unb.garage_relation.service.mapper.ControllerLinks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
+
+public class ControllerLinksTests {
+	private final ControllerLinks controllerLinks = new ControllerLinks();
+
+	@AfterEach
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void self__withinRequest__matchesMethodOnLink() {
+		// Arrange
+		var request = new MockHttpServletRequest("GET", "/api/v1/car");
+		request.setScheme("https");
+		request.setServerName("garage.example.com");
+		request.setServerPort(8443);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		// Act
+		var carLink = controllerLinks.self(CarController.class, 42L);
+		var userLink = controllerLinks.self(UserController.class, 7L);
+
+		// Assert
+		assertRendersLike(carLink, linkTo(methodOn(CarController.class).findById(42L, null)).withSelfRel());
+		assertRendersLike(userLink, linkTo(methodOn(UserController.class).findById(7L, null)).withSelfRel());
+		assertThat(carLink.getHref()).isEqualTo("https://garage.example.com:8443/api/v1/car/42");
+	}
+
+	@Test
+	public void self__outsideRequest__matchesMethodOnLink() {
+		// Act
+		var link = controllerLinks.self(CarController.class, 1L);
+
+		// Assert
+		assertRendersLike(link, linkTo(methodOn(CarController.class).findById(1L, null)).withSelfRel());
+	}
+
+	// methodOn links also carry affordances, which are only rendered by HAL-FORMS
+	private void assertRendersLike(Link actual, Link expected) {
+		assertThat(actual.getHref()).isEqualTo(expected.getHref());
+		assertThat(actual.getRel()).isEqualTo(expected.getRel());
+		assertThat(actual.isTemplated()).isEqualTo(expected.isTemplated());
+	}
+}
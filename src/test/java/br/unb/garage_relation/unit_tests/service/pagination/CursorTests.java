@@ -0,0 +1,50 @@
+package br.unb.garage_relation.unit_tests.service.pagination;
+
+import br.unb.garage_relation.exception.InvalidCursorException;
+import br.unb.garage_relation.service.pagination.Cursor;
+import org.junit.jupiter.api.Test;
+
+import static br.unb.garage_relation.Constants.DEFAULT_PAGE_SIZE;
+import static br.unb.garage_relation.Constants.MAX_PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CursorTests {
+	@Test
+	public void decode__withEncodedId__returnsSameId() {
+		// Arrange
+		var cursor = Cursor.encode(123456789L);
+
+		// Act
+		var id = Cursor.decode(cursor);
+
+		// Assert
+		assertThat(id).isEqualTo(123456789L);
+	}
+
+	@Test
+	public void decode__withNullCursor__returnsFirstPage() {
+		// Act
+		var id = Cursor.decode(null);
+
+		// Assert
+		assertThat(id).isZero();
+	}
+
+	@Test
+	public void decode__withMalformedCursor__throwsInvalidCursorException() {
+		// Act and Assert
+		assertThatThrownBy(
+				() -> Cursor.decode("not a cursor!")
+		).isInstanceOf(InvalidCursorException.class);
+	}
+
+	@Test
+	public void pageSize__withMissingOrOversizedRequest__isClamped() {
+		// Act and Assert
+		assertThat(Cursor.pageSize(null)).isEqualTo(DEFAULT_PAGE_SIZE);
+		assertThat(Cursor.pageSize(0)).isEqualTo(DEFAULT_PAGE_SIZE);
+		assertThat(Cursor.pageSize(10)).isEqualTo(10);
+		assertThat(Cursor.pageSize(MAX_PAGE_SIZE * 10)).isEqualTo(MAX_PAGE_SIZE);
+	}
+}